@@ -0,0 +1,84 @@
+package com.nexora.userservice.benchmark;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares two JMH JSON result files (-rf json) benchmark by benchmark and
+ * exits with 1 when any got slower than the threshold, beyond the combined
+ * error of both runs. Run through the benchmark profile:
+ *
+ *   mvn -Pbenchmark test-compile exec:exec@compare-jmh -Djmh.baseline=baseline.json
+ *
+ * Arguments: baseline file, current file, threshold in percent (default 10).
+ */
+public final class BenchmarkComparison {
+
+    private record Result(String mode, double score, double error, String unit) {}
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-80s %14s %14s %8s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null || !before.unit().equals(now.unit())) {
+                System.out.printf("%-80s %14s %14.3f %8s%n", entry.getKey(), "-", now.score(), "new");
+                continue;
+            }
+            // Throughput: higher is better; every other mode measures time
+            boolean higherIsBetter = "thrpt".equals(now.mode());
+            double change = (now.score() - before.score()) / before.score();
+            double worse = higherIsBetter ? -change : change;
+            boolean beyondError = Math.abs(now.score() - before.score()) > before.error() + now.error();
+            boolean regressed = worse > threshold && beyondError;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-80s %14.3f %14.3f %+7.1f%%%s%n", entry.getKey(), before.score(), now.score(),
+                    change * 100, regressed ? "  REGRESSION" : "");
+        }
+        System.out.println(regressions == 0
+                ? "No regressions over " + Math.round(threshold * 100) + "%"
+                : regressions + " regression(s) over " + Math.round(threshold * 100) + "%");
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    // "Class.method {param=value, ...} [mode, unit]" -> result
+    private static Map<String, Result> read(File file) {
+        ObjectMapper mapper = JsonMapper.builder().build();
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : mapper.readTree(file)) {
+            String name = run.path("benchmark").asString();
+            name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+            Map<String, String> params = new TreeMap<>();
+            run.path("params").properties().forEach(param -> params.put(param.getKey(), param.getValue().asString()));
+            JsonNode metric = run.path("primaryMetric");
+            String mode = run.path("mode").asString();
+            double error = metric.path("scoreError").asDouble();
+            results.put(name + (params.isEmpty() ? "" : " " + params) + " [" + mode + "]", new Result(
+                    mode,
+                    metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error,
+                    metric.path("scoreUnit").asString()));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,113 @@
+package com.nexora.userservice.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nexora.userservice.NexoraUserServiceApplication;
+import com.nexora.userservice.dto.TaskRequest;
+import com.nexora.userservice.entity.Project;
+import com.nexora.userservice.entity.User;
+import com.nexora.userservice.repository.UserRepository;
+import com.nexora.userservice.service.ProjectService;
+import com.nexora.userservice.service.TaskService;
+
+/**
+ * Importing 10k tasks: POST /api/task/bulk (one transaction, batched inserts)
+ * vs. one POST /api/task per row. Scores are rows/sec.
+ *
+ * Needs a database; uses the datasource from application.properties unless
+ * overridden, e.g. -Djmh.args="BulkTaskInsert -jvmArgsAppend -Dspring.datasource.url=..."
+ * Rows are written to a throwaway project that is deleted afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class BulkTaskInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final String UID = "bulk-insert-benchmark";
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private JdbcTemplate jdbcTemplate;
+    private Long projectId;
+    private List<TaskRequest> requests;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(NexoraUserServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                        "--tasks.assignees.backfill.enabled=false");
+        taskService = context.getBean(TaskService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        UserRepository users = context.getBean(UserRepository.class);
+        if (users.findByFirebaseUid(UID).isEmpty()) {
+            User user = new User();
+            user.setFirebaseUid(UID);
+            user.setEmail(UID + "@example.com");
+            users.save(user);
+        }
+        Project project = context.getBean(ProjectService.class).createProject("Bulk insert benchmark", null, UID);
+        projectId = project.getId();
+
+        requests = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            TaskRequest request = new TaskRequest();
+            request.setTitle("Imported task " + i);
+            request.setDescription("Row " + i + " of a " + ROWS + "-task import");
+            requests.add(request);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTasks() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", projectId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM project_members WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Object bulkCreate() {
+        return taskService.createTasks(projectId, requests, UID);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Object createPerRow() {
+        Object last = null;
+        for (TaskRequest request : requests) {
+            last = taskService.createTask(request.getTitle(), request.getDescription(), projectId, UID);
+        }
+        return last;
+    }
+}
@@ -0,0 +1,119 @@
+package com.nexora.userservice.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexora.userservice.dto.MemberResponse;
+import com.nexora.userservice.entity.Project;
+import com.nexora.userservice.entity.ProjectMember;
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.User;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Per-object response mapping: MemberResponse.fromEntity, and Jackson
+ * serialization of a single Task (with its embedded project and owner), a
+ * Project, and a member list. Whole-board lists are in
+ * TaskListSerializationBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMappingBenchmark {
+
+    private static final int MEMBER_COUNT = 20;
+
+    private final ObjectMapper mapper = JsonMapper.builder().build();
+
+    private Project project;
+    private Task task;
+    private ProjectMember member;
+    private List<ProjectMember> members;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = user(1, now);
+        project = new Project();
+        project.setId(7L);
+        project.setName("Board");
+        project.setDescription("Benchmark project");
+        project.setOwner(owner);
+        project.setCreatedAt(now);
+        project.setUpdatedAt(now);
+
+        task = new Task("Task 1", "Description of task number 1", project, owner.getFirebaseUid());
+        task.setId(1L);
+        task.setAssignees(List.of(
+            new Task.TaskAssignee("uid-a", "Alice Example", "alice@example.com", "https://lh3.googleusercontent.com/a/alice"),
+            new Task.TaskAssignee("uid-b", "Bob Example", "bob@example.com", null)));
+        task.setAssignedAt(now);
+
+        members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            ProjectMember m = new ProjectMember();
+            m.setId((long) i);
+            m.setProject(project);
+            m.setUser(user(i + 2, now));
+            m.setRole(i == 0 ? ProjectMember.MemberRole.ADMIN : ProjectMember.MemberRole.MEMBER);
+            m.setJoinedAt(now);
+            members.add(m);
+        }
+        member = members.get(0);
+    }
+
+    @Benchmark
+    public MemberResponse memberFromEntity() {
+        return MemberResponse.fromEntity(member);
+    }
+
+    @Benchmark
+    public byte[] serializeTask() {
+        return mapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] serializeProject() {
+        return mapper.writeValueAsBytes(project);
+    }
+
+    // What GET /api/project/{id}/members does per request
+    @Benchmark
+    public byte[] serializeMembers() {
+        List<MemberResponse> responses = new ArrayList<>(members.size());
+        for (ProjectMember m : members) {
+            responses.add(MemberResponse.fromEntity(m));
+        }
+        return mapper.writeValueAsBytes(responses);
+    }
+
+    private static User user(int id, LocalDateTime now) {
+        User user = new User();
+        user.setId((long) id);
+        user.setFirebaseUid("uid-" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setDisplayName("User " + id);
+        user.setPhotoUrl("https://lh3.googleusercontent.com/a/user-" + id);
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        return user;
+    }
+}
@@ -0,0 +1,118 @@
+package com.nexora.userservice.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.nexora.userservice.entity.Task.TaskAssignee;
+
+/**
+ * The split/replace based assignee JSON handling that Task used before
+ * TaskAssigneeJson, kept verbatim as the benchmark baseline.
+ */
+final class LegacyAssigneeJson {
+
+    private LegacyAssigneeJson() {}
+
+    // Parse JSON to List<TaskAssignee>
+    static List<TaskAssignee> parseAssigneesFromJson(String json) {
+        List<TaskAssignee> result = new ArrayList<>();
+        if (json == null || json.trim().isEmpty() || json.equals("[]")) {
+            return result;
+        }
+        
+        try {
+            json = json.trim();
+            if (json.startsWith("[") && json.endsWith("]")) {
+                json = json.substring(1, json.length() - 1).trim();
+                
+                if (json.isEmpty()) {
+                    return result;
+                }
+                
+                // Split by "},{"
+                String[] items = json.split("\\},\\s*\\{");
+                
+                for (String item : items) {
+                    item = item.replace("{", "").replace("}", "").trim();
+                    
+                    TaskAssignee assignee = new TaskAssignee();
+                    
+                    // Parse key-value pairs
+                    String[] pairs = item.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)"); // Split by comma not in quotes
+                    
+                    for (String pair : pairs) {
+                        String[] kv = pair.split(":", 2);
+                        if (kv.length == 2) {
+                            String key = kv[0].trim().replace("\"", "");
+                            String value = kv[1].trim();
+                            
+                            // Remove quotes from value
+                            if (value.startsWith("\"") && value.endsWith("\"")) {
+                                value = value.substring(1, value.length() - 1);
+                            }
+                            
+                            switch (key) {
+                                case "firebaseUid":
+                                    assignee.setFirebaseUid(value);
+                                    break;
+                                case "name":
+                                    assignee.setName(value);
+                                    break;
+                                case "email":
+                                    assignee.setEmail(value);
+                                    break;
+                                case "photoUrl":
+                                    assignee.setPhotoUrl(value.isEmpty() ? null : value);
+                                    break;
+                            }
+                        }
+                    }
+                    
+                    result.add(assignee);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Error parsing assignees JSON: " + e.getMessage());
+        }
+        
+        return result;
+    }
+    
+    // Convert List<TaskAssignee> to JSON
+    static String convertAssigneesToJson(List<TaskAssignee> assignees) {
+        if (assignees == null || assignees.isEmpty()) {
+            return "[]";
+        }
+        
+        StringBuilder json = new StringBuilder("[");
+        
+        for (int i = 0; i < assignees.size(); i++) {
+            TaskAssignee a = assignees.get(i);
+            
+            if (i > 0) {
+                json.append(",");
+            }
+            
+            json.append("{");
+            json.append("\"firebaseUid\":\"").append(escapeJson(a.getFirebaseUid())).append("\",");
+            json.append("\"name\":\"").append(escapeJson(a.getName())).append("\",");
+            json.append("\"email\":\"").append(escapeJson(a.getEmail())).append("\",");
+            json.append("\"photoUrl\":\"").append(a.getPhotoUrl() != null ? escapeJson(a.getPhotoUrl()) : "").append("\"");
+            json.append("}");
+        }
+        
+        json.append("]");
+        return json.toString();
+    }
+    
+    // Escape special characters in JSON strings
+    static String escapeJson(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\")
+                    .replace("\"", "\\\"")
+                    .replace("\n", "\\n")
+                    .replace("\r", "\\r");
+    }
+}
@@ -0,0 +1,144 @@
+package com.nexora.userservice.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexora.userservice.entity.ProjectMember.MemberRole;
+import com.nexora.userservice.repository.ProjectMemberRepository;
+import com.nexora.userservice.service.MembershipCache;
+import com.nexora.userservice.service.ProjectMemberService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ProjectMemberService's authorization helpers (hasAccess, getUserRole,
+ * isAdmin) over MembershipCache, with an in-memory ProjectMemberRepository
+ * standing in for the database: the cost of the check itself on a hit, and
+ * of a miss without the query round trip. Lookups rotate over PROJECTS x
+ * USERS_PER_PROJECT callers, a quarter of whom have no access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectAuthorizationBenchmark {
+
+    private static final int PROJECTS = 100;
+    private static final int USERS_PER_PROJECT = 20;
+    private static final int LOOKUPS = PROJECTS * USERS_PER_PROJECT;
+
+    private final Map<Long, Map<String, MemberRole>> roles = new HashMap<>();
+
+    private MembershipCache membershipCache;
+    private ProjectMemberService service;
+    private long[] projectIds;
+    private String[] firebaseUids;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int advance() {
+            int current = next;
+            next = current + 1 == LOOKUPS ? 0 : current + 1;
+            return current;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        projectIds = new long[LOOKUPS];
+        firebaseUids = new String[LOOKUPS];
+        for (int p = 0; p < PROJECTS; p++) {
+            Map<String, MemberRole> projectRoles = new HashMap<>();
+            for (int u = 0; u < USERS_PER_PROJECT; u++) {
+                int i = p * USERS_PER_PROJECT + u;
+                projectIds[i] = p;
+                firebaseUids[i] = "uid-" + u;
+                if (u == 0) {
+                    projectRoles.put(firebaseUids[i], MemberRole.OWNER);
+                } else if (u == 1) {
+                    projectRoles.put(firebaseUids[i], MemberRole.ADMIN);
+                } else if (u % 4 != 3) {
+                    projectRoles.put(firebaseUids[i], MemberRole.MEMBER);
+                }
+            }
+            roles.put((long) p, projectRoles);
+        }
+
+        membershipCache = new MembershipCache(10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        service = new ProjectMemberService(inMemoryRepository(), null, null, membershipCache, null, null);
+        for (int i = 0; i < LOOKUPS; i++) {
+            service.hasAccess(projectIds[i], firebaseUids[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean hasAccess(Cursor cursor) {
+        int i = cursor.advance();
+        return service.hasAccess(projectIds[i], firebaseUids[i]);
+    }
+
+    @Benchmark
+    public MemberRole getUserRole(Cursor cursor) {
+        int i = cursor.advance();
+        return service.getUserRole(projectIds[i], firebaseUids[i]);
+    }
+
+    @Benchmark
+    public boolean isAdmin(Cursor cursor) {
+        int i = cursor.advance();
+        return service.isAdmin(projectIds[i], firebaseUids[i]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean hasAccessContended(Cursor cursor) {
+        int i = cursor.advance();
+        return service.hasAccess(projectIds[i], firebaseUids[i]);
+    }
+
+    // Evict (as a membership change does) then check: the miss path
+    @Benchmark
+    public boolean hasAccessAfterEvict(Cursor cursor) {
+        int i = cursor.advance();
+        membershipCache.evict(projectIds[i], firebaseUids[i]);
+        return service.hasAccess(projectIds[i], firebaseUids[i]);
+    }
+
+    // Only the role query is used by the helpers
+    private ProjectMemberRepository inMemoryRepository() {
+        return (ProjectMemberRepository) Proxy.newProxyInstance(
+                ProjectMemberRepository.class.getClassLoader(),
+                new Class<?>[] { ProjectMemberRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findRoleName" -> {
+                        Map<String, MemberRole> projectRoles = roles.get((Long) args[0]);
+                        MemberRole role = projectRoles != null ? projectRoles.get((String) args[1]) : null;
+                        yield Optional.ofNullable(role).map(MemberRole::name);
+                    }
+                    case "toString" -> "InMemoryProjectMemberRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
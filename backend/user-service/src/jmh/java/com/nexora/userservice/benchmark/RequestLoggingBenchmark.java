@@ -0,0 +1,159 @@
+package com.nexora.userservice.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nexora.userservice.NexoraUserServiceApplication;
+import com.nexora.userservice.entity.Project;
+import com.nexora.userservice.entity.User;
+import com.nexora.userservice.repository.UserRepository;
+import com.nexora.userservice.service.ProjectService;
+import com.nexora.userservice.service.TaskService;
+
+/**
+ * Request throughput with the previous logging setup versus the async
+ * structured pipeline, 32 concurrent clients:
+ * - stdout: show-sql + format_sql, DEBUG security logging and a synchronous
+ *   console appender, i.e. what every request wrote before
+ * - async: the application's logback-spring.xml (JSON events through the
+ *   bounded queue, SQL and security at their configured levels)
+ *
+ * The System.out banners of the assign endpoints are gone from the code, so
+ * "stdout" understates the old cost of assign. The forked JVM's stdout is
+ * part of what is measured; redirect the run to a file, e.g.
+ * -Djmh.args="RequestLogging -jvmArgsAppend -Dspring.datasource.url=..." > run.log
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(32)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final int TASKS = 200;
+    private static final String UID = "request-logging-benchmark";
+
+    // Boot's plain console appender, without the file appender of base.xml
+    private static final String STDOUT_CONFIG = """
+            <configuration>
+            	<include resource="org/springframework/boot/logging/logback/defaults.xml"/>
+            	<include resource="org/springframework/boot/logging/logback/console-appender.xml"/>
+            	<root level="INFO">
+            		<appender-ref ref="CONSOLE"/>
+            	</root>
+            </configuration>
+            """;
+
+    @Param({"stdout", "async"})
+    public String logging;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private HttpClient http;
+    private String baseUrl;
+    private Long projectId;
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> args = new ArrayList<>(List.of("--server.port=0", "--tasks.assignees.backfill.enabled=false"));
+        if (logging.equals("stdout")) {
+            Path config = Files.createTempFile("logback-stdout", ".xml");
+            config.toFile().deleteOnExit();
+            Files.writeString(config, STDOUT_CONFIG);
+            args.addAll(List.of("--logging.config=" + config.toAbsolutePath(),
+                    "--spring.jpa.show-sql=true",
+                    "--spring.jpa.properties.hibernate.format_sql=true",
+                    "--logging.level.org.springframework.security=DEBUG"));
+        }
+        context = new SpringApplicationBuilder(NexoraUserServiceApplication.class).run(args.toArray(String[]::new));
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        UserRepository users = context.getBean(UserRepository.class);
+        if (users.findByFirebaseUid(UID).isEmpty()) {
+            User user = new User();
+            user.setFirebaseUid(UID);
+            user.setEmail(UID + "@example.com");
+            users.save(user);
+        }
+        Project project = context.getBean(ProjectService.class).createProject("Request logging benchmark", null, UID);
+        projectId = project.getId();
+        TaskService taskService = context.getBean(TaskService.class);
+        for (int t = 0; t < TASKS; t++) {
+            taskIds.add(taskService.createTask("Task " + t, "Benchmark task", projectId, UID).getId());
+        }
+
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_assignees WHERE task_id IN (SELECT id FROM tasks WHERE project_id = ?)",
+                projectId);
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM project_members WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+        context.close();
+    }
+
+    @Benchmark
+    public int assignTask() {
+        Long taskId = taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        String body = "{\"assigneeUserId\":\"" + UID + "\",\"assigneeName\":\"Benchmark\","
+                + "\"assigneeEmail\":\"" + UID + "@example.com\"}";
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/task/" + taskId
+                        + "/assign?requestorFirebaseUid=" + UID))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    @Benchmark
+    public int projectTasks() {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/task/project/" + projectId + "?firebaseUid=" + UID))
+                .GET()
+                .build());
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
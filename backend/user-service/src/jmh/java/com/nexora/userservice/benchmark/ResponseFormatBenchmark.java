@@ -0,0 +1,137 @@
+package com.nexora.userservice.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.nexora.userservice.entity.Project;
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.User;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * CPU cost of the task list response formats: JSON, CBOR written by the
+ * message converter, CBOR transcoded from cached JSON (a TaskListCache miss
+ * for the CBOR entry), and gzip of each as Tomcat applies it.
+ * Raw and gzipped payload sizes are printed in setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    @Param({"50", "500"})
+    private int taskCount;
+
+    private final ObjectMapper mapper = JsonMapper.builder().build();
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+    private final JacksonCborHttpMessageConverter cborConverter = new JacksonCborHttpMessageConverter(cborMapper);
+
+    private List<Task> tasks;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        User owner = new User();
+        owner.setId(1L);
+        owner.setFirebaseUid("owner-uid");
+        owner.setEmail("owner@example.com");
+        owner.setDisplayName("Owner");
+        Project project = new Project();
+        project.setId(7L);
+        project.setName("Board");
+        project.setDescription("Benchmark project");
+        project.setOwner(owner);
+
+        tasks = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task("Task " + i, "Description of task number " + i, project, "owner-uid");
+            task.setId((long) i);
+            task.setAssignees(List.of(
+                new Task.TaskAssignee("uid-a", "Alice Example", "alice@example.com", "https://lh3.googleusercontent.com/a/alice"),
+                new Task.TaskAssignee("uid-b", "Bob Example", "bob@example.com", null)));
+            task.setAssignedAt(now);
+            tasks.add(task);
+        }
+
+        json = json();
+        cbor = cbor();
+        System.out.println("\nPayload bytes for " + taskCount + " tasks: json=" + json.length
+                + " cbor=" + cbor.length + " json.gz=" + gzip(json).length + " cbor.gz=" + gzip(cbor).length);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return mapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        cborConverter.write(tasks, MediaType.APPLICATION_CBOR, message);
+        return message.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public byte[] cborFromCachedJson() {
+        // As TaskController does for the cached CBOR entry
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = mapper.createParser(json);
+             JsonGenerator generator = cborMapper.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() {
+        return gzip(json);
+    }
+
+    @Benchmark
+    public byte[] cborGzip() {
+        return gzip(cbor);
+    }
+
+    // Default deflate level, as Tomcat's GzipOutputFilter
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.nexora.userservice.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.Task.TaskAssignee;
+
+/**
+ * Task's assignee accessors: setAssignees (dedupe, legacy columns and the
+ * JSON snapshot), getAssignees, and isAssignedTo for the primary assignee,
+ * the last one and a non-assignee (the full scan).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskAssigneeAccessBenchmark {
+
+    @Param({"1", "5", "50"})
+    private int assigneeCount;
+
+    private List<TaskAssignee> assignees;
+    private Task task;
+    private String lastUid;
+
+    @Setup
+    public void setUp() {
+        assignees = new ArrayList<>();
+        for (int i = 0; i < assigneeCount; i++) {
+            assignees.add(new TaskAssignee(
+                "uid-" + i + "-Xk29fLqP0aZ7",
+                "Member " + i,
+                "member" + i + "@example.com",
+                i % 2 == 0 ? "https://lh3.googleusercontent.com/a/photo-" + i : null
+            ));
+        }
+        task = new Task("Task", "Description", null, "owner-uid");
+        task.setAssignees(assignees);
+        lastUid = assignees.get(assigneeCount - 1).getFirebaseUid();
+    }
+
+    @Benchmark
+    public Task setAssignees() {
+        Task target = new Task();
+        target.setAssignees(assignees);
+        return target;
+    }
+
+    @Benchmark
+    public List<TaskAssignee> getAssignees() {
+        return task.getAssignees();
+    }
+
+    @Benchmark
+    public boolean isAssignedToPrimary() {
+        return task.isAssignedTo("uid-0-Xk29fLqP0aZ7");
+    }
+
+    @Benchmark
+    public boolean isAssignedToLast() {
+        return task.isAssignedTo(lastUid);
+    }
+
+    @Benchmark
+    public boolean isAssignedToOther() {
+        return task.isAssignedTo("not-an-assignee");
+    }
+}
@@ -0,0 +1,73 @@
+package com.nexora.userservice.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexora.userservice.entity.Task.TaskAssignee;
+import com.nexora.userservice.entity.TaskAssigneeJson;
+
+/**
+ * Assignee JSON codec vs the previous split/replace implementation.
+ * Run with -prof gc to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskAssigneeJsonBenchmark {
+
+    @Param({"1", "5", "50"})
+    private int assigneeCount;
+
+    private List<TaskAssignee> assignees;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        assignees = new ArrayList<>();
+        for (int i = 0; i < assigneeCount; i++) {
+            assignees.add(new TaskAssignee(
+                "uid-" + i + "-Xk29fLqP0aZ7",
+                "Member " + i + " O'Neil",
+                "member" + i + "@example.com",
+                i % 2 == 0 ? "https://lh3.googleusercontent.com/a/photo-" + i : null
+            ));
+        }
+        json = TaskAssigneeJson.write(assignees);
+    }
+
+    @Benchmark
+    public List<TaskAssignee> readCodec() {
+        return TaskAssigneeJson.read(json);
+    }
+
+    @Benchmark
+    public List<TaskAssignee> readLegacy() {
+        return LegacyAssigneeJson.parseAssigneesFromJson(json);
+    }
+
+    @Benchmark
+    public String writeCodec() {
+        return TaskAssigneeJson.write(assignees);
+    }
+
+    @Benchmark
+    public String writeLegacy() {
+        return LegacyAssigneeJson.convertAssigneesToJson(assignees);
+    }
+}
@@ -0,0 +1,93 @@
+package com.nexora.userservice.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexora.userservice.dto.TaskCardResponse;
+import com.nexora.userservice.entity.Project;
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.User;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serializing a board as full Task entities vs TaskCardResponse projections.
+ * Run with -prof gc for allocation per request; payload sizes are printed in setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListSerializationBenchmark {
+
+    @Param({"50", "500"})
+    private int taskCount;
+
+    private final ObjectMapper mapper = JsonMapper.builder().build();
+
+    private List<Task> entities;
+    private List<TaskCardResponse> cards;
+
+    @Setup
+    public void setUp() {
+        User owner = new User();
+        owner.setId(1L);
+        owner.setFirebaseUid("owner-uid");
+        owner.setEmail("owner@example.com");
+        owner.setDisplayName("Owner");
+        Project project = new Project();
+        project.setId(7L);
+        project.setName("Board");
+        project.setDescription("Benchmark project");
+        project.setOwner(owner);
+
+        entities = new ArrayList<>();
+        cards = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task("Task " + i, "Description of task number " + i, project, "owner-uid");
+            task.setId((long) i);
+            task.setAssignees(List.of(
+                new Task.TaskAssignee("uid-a", "Alice Example", "alice@example.com", "https://lh3.googleusercontent.com/a/alice"),
+                new Task.TaskAssignee("uid-b", "Bob Example", "bob@example.com", null)));
+            task.setAssignedAt(now);
+            entities.add(task);
+
+            TaskCardResponse card = new TaskCardResponse(task.getId(), project.getId(), task.getTitle(),
+                    task.getDescription(), task.getStatus(), task.getCreatedBy(), task.getCreatedAt(),
+                    task.getUpdatedAt(), task.getAssignedAt(), task.getVersion());
+            card.getAssignees().addAll(task.getAssignees());
+            cards.add(card);
+        }
+
+        System.out.println("\nPayload bytes for " + taskCount + " tasks: entities="
+                + serializeEntities().length + " cards=" + serializeCards().length);
+    }
+
+    @Benchmark
+    public byte[] serializeEntities() {
+        return mapper.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] serializeCards() {
+        return mapper.writeValueAsBytes(cards);
+    }
+}
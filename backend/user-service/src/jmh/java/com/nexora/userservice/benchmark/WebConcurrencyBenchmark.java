@@ -0,0 +1,240 @@
+package com.nexora.userservice.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nexora.userservice.NexoraUserServiceApplication;
+import com.nexora.userservice.entity.Project;
+import com.nexora.userservice.entity.User;
+import com.nexora.userservice.repository.UserRepository;
+import com.nexora.userservice.service.ProjectService;
+import com.nexora.userservice.service.TaskService;
+
+/**
+ * Closed-loop HTTP load against the real web stack, platform vs. virtual
+ * request threads, at 50/500/5000 concurrent clients. Each client sends its
+ * next request as soon as the previous answer arrives: 90% board reloads
+ * (GET /api/task/project/{id}) and 10% POST /api/task/{id}/assign, spread
+ * over PROJECTS projects.
+ *
+ * The score is the time for REQUESTS requests (lower is better). Throughput,
+ * p50/p99/p99.9 and errors of every measured iteration are appended to
+ * target/web-concurrency-result.json, one JSON object per line.
+ *
+ * Virtual threads need Java 21+; on older JVMs "virtual" runs on platform
+ * threads, which the result records as virtualActive=false. Needs a database,
+ * like BulkTaskInsertBenchmark, e.g.
+ * -Djmh.args="WebConcurrency -jvmArgsAppend -Dspring.datasource.url=..."
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WebConcurrencyBenchmark {
+
+    private static final int REQUESTS = 20_000;
+    private static final int PROJECTS = 20;
+    private static final int TASKS_PER_PROJECT = 20;
+    private static final String UID = "web-concurrency-benchmark";
+    private static final Path RESULT = Path.of("target", "web-concurrency-result.json");
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"50", "500", "5000"})
+    public int clients;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private HttpClient http;
+    private String baseUrl;
+    private boolean virtualActive;
+    private final List<Long> projectIds = new ArrayList<>();
+    private final List<Long> taskIds = new ArrayList<>();
+
+    private long[] latencies;
+    private AtomicInteger errors;
+    private long startedAt;
+    private long finishedAt;
+    private boolean measured;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(NexoraUserServiceApplication.class)
+                .run("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--tasks.assignees.backfill.enabled=false",
+                        "--spring.threads.virtual.enabled=" + threads.equals("virtual"));
+        virtualActive = Threading.VIRTUAL.isActive(context.getEnvironment());
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        UserRepository users = context.getBean(UserRepository.class);
+        if (users.findByFirebaseUid(UID).isEmpty()) {
+            User user = new User();
+            user.setFirebaseUid(UID);
+            user.setEmail(UID + "@example.com");
+            users.save(user);
+        }
+        ProjectService projectService = context.getBean(ProjectService.class);
+        TaskService taskService = context.getBean(TaskService.class);
+        for (int p = 0; p < PROJECTS; p++) {
+            Project project = projectService.createProject("Web concurrency benchmark " + p, null, UID);
+            projectIds.add(project.getId());
+            for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                taskIds.add(taskService.createTask("Task " + t, "Benchmark task", project.getId(), UID).getId());
+            }
+        }
+
+        http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters(IterationParams iteration) {
+        latencies = new long[REQUESTS];
+        errors = new AtomicInteger();
+        measured = iteration.getType() == IterationType.MEASUREMENT;
+    }
+
+    @TearDown(Level.Iteration)
+    public void recordIteration() {
+        if (!measured) {
+            return;
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double seconds = (finishedAt - startedAt) / 1e9;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", threads);
+        result.put("virtualActive", virtualActive);
+        result.put("java", Runtime.version().feature());
+        result.put("clients", clients);
+        result.put("requests", REQUESTS);
+        result.put("errors", errors.get());
+        result.put("throughputPerSec", Math.round(REQUESTS / seconds));
+        result.put("p50Ms", percentileMs(sorted, 0.50));
+        result.put("p99Ms", percentileMs(sorted, 0.99));
+        result.put("p999Ms", percentileMs(sorted, 0.999));
+        StringBuilder line = new StringBuilder("{");
+        result.forEach((key, value) -> line.append(line.length() > 1 ? "," : "")
+                .append('"').append(key).append("\":")
+                .append(value instanceof String ? "\"" + value + "\"" : value));
+        line.append("}\n");
+        try {
+            Files.createDirectories(RESULT.getParent());
+            Files.writeString(RESULT, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (Long projectId : projectIds) {
+            jdbcTemplate.update("DELETE FROM task_assignees WHERE task_id IN (SELECT id FROM tasks WHERE project_id = ?)",
+                    projectId);
+            jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", projectId);
+            jdbcTemplate.update("DELETE FROM project_members WHERE project_id = ?", projectId);
+            jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public int load() {
+        AtomicInteger next = new AtomicInteger();
+        CompletableFuture<?>[] loops = new CompletableFuture<?>[clients];
+        startedAt = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            loops[i] = clientLoop(next);
+        }
+        CompletableFuture.allOf(loops).join();
+        finishedAt = System.nanoTime();
+        return next.get();
+    }
+
+    // One client: claims the next request slot until all REQUESTS are taken
+    private CompletableFuture<Void> clientLoop(AtomicInteger next) {
+        int slot = next.getAndIncrement();
+        if (slot >= REQUESTS) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return http.sendAsync(nextRequest(), HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    latencies[slot] = System.nanoTime() - start;
+                    if (error != null || response.statusCode() >= 400) {
+                        errors.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> clientLoop(next));
+    }
+
+    private HttpRequest nextRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextInt(10) == 0) {
+            Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+            String body = "{\"assigneeUserId\":\"" + UID + "\",\"assigneeName\":\"Benchmark\","
+                    + "\"assigneeEmail\":\"" + UID + "@example.com\"}";
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/task/" + taskId
+                            + "/assign?requestorFirebaseUid=" + UID))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+        Long projectId = projectIds.get(random.nextInt(projectIds.size()));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/task/project/" + projectId + "?firebaseUid=" + UID))
+                .GET()
+                .build();
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return Math.round(sorted[index] / 1e4) / 100.0;
+    }
+}
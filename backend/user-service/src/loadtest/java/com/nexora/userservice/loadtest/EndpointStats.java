@@ -0,0 +1,86 @@
+package com.nexora.userservice.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latencies and outcomes of one endpoint, recorded by a single client thread
+ * and merged after the run. Percentiles are exact (all samples are kept).
+ */
+final class EndpointStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long ok;
+    private long notModified;
+    private long conflicts;
+    private long errors;
+
+    // status -1: no response (I/O error)
+    void record(long nanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (status == 304) {
+            notModified++;
+        } else if (status == 409) {
+            conflicts++;
+        } else if (status >= 200 && status < 300) {
+            ok++;
+        } else {
+            errors++;
+        }
+    }
+
+    void merge(EndpointStats other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        ok += other.ok;
+        notModified += other.notModified;
+        conflicts += other.conflicts;
+        errors += other.errors;
+    }
+
+    long count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    Map<String, Object> toMap(double seconds, Double statementsPerRequest) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("requests", count);
+        map.put("throughputPerSec", round(count / seconds, 10));
+        map.put("ok", ok);
+        map.put("notModified", notModified);
+        map.put("conflicts", conflicts);
+        map.put("errors", errors);
+        map.put("p50Ms", percentileMs(sorted, 0.50));
+        map.put("p99Ms", percentileMs(sorted, 0.99));
+        map.put("p999Ms", percentileMs(sorted, 0.999));
+        map.put("maxMs", count == 0 ? 0 : round(sorted[count - 1] / 1e6, 100));
+        map.put("sqlPerRequest", statementsPerRequest != null ? round(statementsPerRequest, 100) : null);
+        return map;
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = Math.min(sorted.length - 1, Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1));
+        return round(sorted[index] / 1e6, 100);
+    }
+
+    private static double round(double value, int scale) {
+        return Math.round(value * scale) / (double) scale;
+    }
+}
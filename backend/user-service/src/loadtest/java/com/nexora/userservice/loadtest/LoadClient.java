@@ -0,0 +1,254 @@
+package com.nexora.userservice.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.nexora.userservice.entity.TaskStatus;
+import com.nexora.userservice.loadtest.LoadFixture.Person;
+import com.nexora.userservice.loadtest.LoadFixture.ProjectFixture;
+import com.nexora.userservice.loadtest.LoadFixture.TaskState;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * One simulated user session: runs weighted scenarios back to back (closed
+ * loop, no think time) until the deadline, recording every request under its
+ * endpoint. Keeps ETags per resource like a browser, so board and dashboard
+ * reloads revalidate. Not thread-safe; one instance per client thread.
+ */
+final class LoadClient implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final LoadFixture fixture;
+    private final ObjectMapper objectMapper;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final long deadline;
+
+    private final Map<String, EndpointStats> endpoints = new LinkedHashMap<>();
+    private final Map<Scenario, Long> completed = new EnumMap<>(Scenario.class);
+    private final Map<String, String> eTags = new HashMap<>();
+
+    LoadClient(HttpClient http, String baseUrl, LoadFixture fixture, ObjectMapper objectMapper,
+               Map<Scenario, Integer> mix, long deadline) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.fixture = fixture;
+        this.objectMapper = objectMapper;
+        this.scenarios = mix.keySet().toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += mix.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.deadline = deadline;
+    }
+
+    Map<String, EndpointStats> endpoints() {
+        return endpoints;
+    }
+
+    Map<Scenario, Long> completed() {
+        return completed;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            Scenario scenario = nextScenario();
+            switch (scenario) {
+                case BOARD -> board();
+                case DASHBOARD -> dashboard();
+                case STATUS_DRAG -> statusDrag();
+                case ASSIGN -> assign();
+                case MULTI_ASSIGN -> multiAssign();
+                case MEMBER_ADD -> memberAdd();
+            }
+            completed.merge(scenario, 1L, Long::sum);
+        }
+    }
+
+    // ========================================
+    // SCENARIOS
+    // ========================================
+
+    private void board() {
+        ProjectFixture project = randomProject();
+        String viewer = randomViewer(project).firebaseUid();
+        get("GET /api/project/{id}", "/api/project/" + project.id() + "?firebaseUid=" + viewer, false);
+        get("GET /api/task/project/{id}", "/api/task/project/" + project.id() + "?firebaseUid=" + viewer, true);
+        get("GET /api/project/{id}/members", "/api/project/" + project.id() + "/members", true);
+    }
+
+    private void dashboard() {
+        Person user = fixture.activeUsers.get(random().nextInt(fixture.activeUsers.size()));
+        get("GET /api/project/user/{uid}", "/api/project/user/" + user.firebaseUid(), true);
+        get("GET /api/task/assignee/{uid}", "/api/task/assignee/" + user.firebaseUid(), false);
+    }
+
+    private void statusDrag() {
+        ProjectFixture project = randomProject();
+        Long taskId = randomTask(project);
+        TaskState state = fixture.tasks.get(taskId);
+        List<TaskStatus> targets = new ArrayList<>(state.status().allowedTransitions());
+        TaskStatus target = targets.get(random().nextInt(targets.size()));
+        String body = "{\"fromStatus\":\"" + state.status() + "\",\"toStatus\":\"" + target
+                + "\",\"version\":" + state.version() + "}";
+        HttpResponse<byte[]> response = send("POST /api/task/{id}/transition", post(
+                "/api/task/" + taskId + "/transition?firebaseUid=" + randomViewer(project).firebaseUid(), body));
+        // 200: the new state; 409: someone else's; either way the board now knows it
+        if (response != null && (response.statusCode() == 200 || response.statusCode() == 409)) {
+            JsonNode json = objectMapper.readTree(response.body());
+            fixture.tasks.put(taskId, new TaskState(
+                    TaskStatus.valueOf(json.path("status").asString()), json.path("version").asLong()));
+        }
+    }
+
+    private void assign() {
+        ProjectFixture project = randomProject();
+        Person member = project.members().get(random().nextInt(project.members().size()));
+        String body = "{\"assigneeUserId\":\"" + member.firebaseUid() + "\",\"assigneeName\":\"" + member.name()
+                + "\",\"assigneeEmail\":\"" + member.email() + "\"}";
+        send("POST /api/task/{id}/assign", post("/api/task/" + randomTask(project)
+                + "/assign?requestorFirebaseUid=" + project.owner().firebaseUid(), body));
+    }
+
+    private void multiAssign() {
+        ProjectFixture project = randomProject();
+        List<Person> members = new ArrayList<>(project.members());
+        StringBuilder body = new StringBuilder("{\"assignees\":[");
+        int count = 2 + random().nextInt(2);
+        for (int i = 0; i < count; i++) {
+            Person member = members.remove(random().nextInt(members.size()));
+            body.append(i > 0 ? "," : "")
+                    .append("{\"firebaseUid\":\"").append(member.firebaseUid())
+                    .append("\",\"name\":\"").append(member.name())
+                    .append("\",\"email\":\"").append(member.email()).append("\"}");
+        }
+        body.append("]}");
+        send("POST /api/task/{id}/assign-multiple", post("/api/task/" + randomTask(project)
+                + "/assign-multiple?requestorFirebaseUid=" + project.owner().firebaseUid(), body.toString()));
+    }
+
+    // Adds a user who is not a seeded member, then removes them again, so the
+    // member lists stay the seeded size; busyUids keeps clients from picking
+    // the same user for one project at once
+    private void memberAdd() {
+        ProjectFixture project = randomProject();
+        Person user = null;
+        for (int attempt = 0; attempt < 20 && user == null; attempt++) {
+            Person candidate = fixture.users.get(random().nextInt(fixture.users.size()));
+            if (!project.isSeededMember(candidate.firebaseUid()) && project.busyUids().add(candidate.firebaseUid())) {
+                user = candidate;
+            }
+        }
+        if (user == null) {
+            return;
+        }
+        try {
+            String owner = project.owner().firebaseUid();
+            HttpResponse<byte[]> added = send("POST /api/project/{id}/members", post("/api/project/" + project.id()
+                    + "/members?requestorFirebaseUid=" + owner, "{\"userEmail\":\"" + user.email() + "\",\"role\":\"MEMBER\"}"));
+            if (added != null && added.statusCode() == 200) {
+                send("DELETE /api/project/{id}/members/{userId}", request("/api/project/" + project.id()
+                        + "/members/" + user.userId() + "?requestorFirebaseUid=" + owner).DELETE());
+            }
+        } finally {
+            project.busyUids().remove(user.firebaseUid());
+        }
+    }
+
+    // ========================================
+    // HTTP
+    // ========================================
+
+    // conditional: revalidate with the ETag of the last response, as a browser does
+    private void get(String endpoint, String path, boolean conditional) {
+        HttpRequest.Builder request = request(path).GET();
+        String eTag = conditional ? eTags.get(path) : null;
+        if (eTag != null) {
+            request.header("If-None-Match", eTag);
+        }
+        HttpResponse<byte[]> response = send(endpoint, request);
+        if (conditional && response != null && response.statusCode() == 200) {
+            response.headers().firstValue("ETag").ifPresent(tag -> eTags.put(path, tag));
+        }
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    // The response, or null when the request failed without one
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest.Builder request) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, e -> new EndpointStats());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = http.send(
+                    request.header(StatementCountingFilter.HEADER, endpoint).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            stats.record(System.nanoTime() - start, response.statusCode());
+            return response;
+        } catch (IOException e) {
+            stats.record(System.nanoTime() - start, -1);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    // ========================================
+    // RANDOM PICKS
+    // ========================================
+
+    private Scenario nextScenario() {
+        int roll = random().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private ProjectFixture randomProject() {
+        return fixture.projects.get(random().nextInt(fixture.projects.size()));
+    }
+
+    private Long randomTask(ProjectFixture project) {
+        return project.taskIds().get(random().nextInt(project.taskIds().size()));
+    }
+
+    // Owner or one of the seeded members
+    private Person randomViewer(ProjectFixture project) {
+        int pick = random().nextInt(project.members().size() + 1);
+        return pick == 0 ? project.owner() : project.members().get(pick - 1);
+    }
+
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}
@@ -0,0 +1,45 @@
+package com.nexora.userservice.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * A throwaway database on a local PostgreSQL server (14+): dropped and
+ * created empty before the run, so the service builds its schema from
+ * scratch exactly as on a fresh deployment, and dropped again afterwards.
+ * Any reachable server works, e.g. docker run -p 5432:5432 postgres:16-alpine.
+ */
+final class LoadDatabase {
+
+    private static final Pattern SAFE_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final LoadTestOptions options;
+
+    LoadDatabase(LoadTestOptions options) {
+        if (!SAFE_NAME.matcher(options.database()).matches()) {
+            throw new IllegalArgumentException("database must be a plain lower-case identifier");
+        }
+        this.options = options;
+    }
+
+    void recreate() throws SQLException {
+        execute("DROP DATABASE IF EXISTS " + options.database() + " WITH (FORCE)");
+        execute("CREATE DATABASE " + options.database());
+    }
+
+    void drop() throws SQLException {
+        execute("DROP DATABASE IF EXISTS " + options.database() + " WITH (FORCE)");
+    }
+
+    // CREATE/DROP DATABASE cannot run inside the target database or a transaction
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                     options.server() + "/postgres", options.username(), options.password());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
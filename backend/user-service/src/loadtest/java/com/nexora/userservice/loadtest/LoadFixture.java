@@ -0,0 +1,51 @@
+package com.nexora.userservice.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.nexora.userservice.entity.TaskStatus;
+
+/**
+ * What the seeder created, as the clients need it: users, each project's
+ * owner, seeded members and tasks, and every task's last known status and
+ * version (kept current from transition responses, like a board client).
+ */
+final class LoadFixture {
+
+    record Person(Long userId, String firebaseUid, String name, String email) {}
+
+    record TaskState(TaskStatus status, long version) {}
+
+    record ProjectFixture(Long id, Person owner, List<Person> members, List<Long> taskIds, Set<String> busyUids) {
+
+        ProjectFixture(Long id, Person owner, List<Person> members, List<Long> taskIds) {
+            this(id, owner, members, taskIds, ConcurrentHashMap.newKeySet());
+        }
+
+        boolean isSeededMember(String firebaseUid) {
+            if (owner.firebaseUid().equals(firebaseUid)) {
+                return true;
+            }
+            for (Person member : members) {
+                if (member.firebaseUid().equals(firebaseUid)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    final List<Person> users;
+    final List<ProjectFixture> projects;
+    // Users that own or belong to at least one project (dashboard viewers)
+    final List<Person> activeUsers;
+    final Map<Long, TaskState> tasks = new ConcurrentHashMap<>();
+
+    LoadFixture(List<Person> users, List<ProjectFixture> projects, List<Person> activeUsers) {
+        this.users = users;
+        this.projects = projects;
+        this.activeUsers = activeUsers;
+    }
+}
@@ -0,0 +1,142 @@
+package com.nexora.userservice.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nexora.userservice.dto.AssignTaskRequest;
+import com.nexora.userservice.dto.BulkTaskResult;
+import com.nexora.userservice.dto.TaskRequest;
+import com.nexora.userservice.entity.ProjectMember;
+import com.nexora.userservice.entity.TaskStatus;
+import com.nexora.userservice.entity.User;
+import com.nexora.userservice.loadtest.LoadFixture.Person;
+import com.nexora.userservice.loadtest.LoadFixture.ProjectFixture;
+import com.nexora.userservice.loadtest.LoadFixture.TaskState;
+import com.nexora.userservice.service.ProjectMemberService;
+import com.nexora.userservice.service.ProjectService;
+import com.nexora.userservice.service.TaskService;
+import com.nexora.userservice.service.UserService;
+
+/**
+ * Seeds the empty load-test database through the service layer, so every
+ * row (versions, task_assignees, trigger-maintained columns) looks like
+ * production data: users, projects owned round-robin, members (one ADMIN
+ * each), tasks half TODO / a quarter IN_PROGRESS / a quarter DONE, a share
+ * assigned to one member and some to two or three. Fixed random seed, so
+ * runs with the same options see the same data.
+ */
+final class LoadSeeder {
+
+    private final LoadTestOptions options;
+    private final UserService userService;
+    private final ProjectService projectService;
+    private final ProjectMemberService projectMemberService;
+    private final TaskService taskService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    LoadSeeder(LoadTestOptions options, ApplicationContext context) {
+        this.options = options;
+        this.userService = context.getBean(UserService.class);
+        this.projectService = context.getBean(ProjectService.class);
+        this.projectMemberService = context.getBean(ProjectMemberService.class);
+        this.taskService = context.getBean(TaskService.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    LoadFixture seed() {
+        List<Person> users = new ArrayList<>(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            String uid = "load-user-" + i;
+            String name = "Load User " + i;
+            User user = userService.createOrUpdateUser(uid, uid + "@example.com", name,
+                    i % 3 == 0 ? null : "https://lh3.googleusercontent.com/a/" + uid);
+            users.add(new Person(user.getId(), uid, name, user.getEmail()));
+        }
+
+        List<ProjectFixture> projects = new ArrayList<>(options.projects());
+        Set<Person> activeUsers = new LinkedHashSet<>();
+        for (int p = 0; p < options.projects(); p++) {
+            Person owner = users.get(p % users.size());
+            Long projectId = projectService.createProject("Load project " + p,
+                    "Seeded by the load test harness", owner.firebaseUid()).getId();
+
+            List<Person> candidates = new ArrayList<>(users);
+            candidates.remove(owner);
+            Collections.shuffle(candidates, random);
+            List<Person> members = List.copyOf(candidates.subList(0, options.membersPerProject()));
+            for (int m = 0; m < members.size(); m++) {
+                projectMemberService.addMember(projectId, members.get(m).email(),
+                        m == 0 ? ProjectMember.MemberRole.ADMIN : ProjectMember.MemberRole.MEMBER,
+                        owner.firebaseUid());
+            }
+
+            List<Long> taskIds = createTasks(projectId, owner);
+            assignTasks(taskIds, members, owner);
+            projects.add(new ProjectFixture(projectId, owner, members, List.copyOf(taskIds)));
+            activeUsers.add(owner);
+            activeUsers.addAll(members);
+        }
+
+        LoadFixture fixture = new LoadFixture(List.copyOf(users), List.copyOf(projects), List.copyOf(activeUsers));
+        jdbcTemplate.query("SELECT id, status, version FROM tasks", row -> {
+            fixture.tasks.put(row.getLong("id"),
+                    new TaskState(TaskStatus.fromCode(row.getShort("status")), row.getLong("version")));
+        });
+        return fixture;
+    }
+
+    private List<Long> createTasks(Long projectId, Person owner) {
+        List<TaskRequest> requests = new ArrayList<>(options.tasksPerProject());
+        for (int t = 0; t < options.tasksPerProject(); t++) {
+            TaskRequest request = new TaskRequest();
+            request.setTitle("Task " + t + " of project " + projectId);
+            request.setDescription("Seeded task " + t + ": review the rollout checklist and update the runbook");
+            int roll = random.nextInt(4);
+            request.setStatus(roll < 2 ? "TODO" : roll == 2 ? "IN_PROGRESS" : "DONE");
+            requests.add(request);
+        }
+        List<Long> taskIds = new ArrayList<>(requests.size());
+        for (BulkTaskResult result : taskService.createTasks(projectId, requests, owner.firebaseUid()).getResults()) {
+            taskIds.add(result.getTaskId());
+        }
+        return taskIds;
+    }
+
+    // One bulk call per member for single assignees, then individual multi-assigns
+    private void assignTasks(List<Long> taskIds, List<Person> members, Person owner) {
+        Map<Person, List<Long>> byMember = new HashMap<>();
+        List<Long> multi = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            double roll = random.nextDouble();
+            if (roll < options.multiAssignedShare()) {
+                multi.add(taskId);
+            } else if (roll < options.assignedShare()) {
+                byMember.computeIfAbsent(members.get(random.nextInt(members.size())), m -> new ArrayList<>()).add(taskId);
+            }
+        }
+        byMember.forEach((member, ids) -> taskService.bulkAssignTasks(ids, assignment(member), owner.firebaseUid()));
+        for (Long taskId : multi) {
+            List<Person> shuffled = new ArrayList<>(members);
+            Collections.shuffle(shuffled, random);
+            List<AssignTaskRequest> assignees = new ArrayList<>();
+            for (Person member : shuffled.subList(0, 2 + random.nextInt(2))) {
+                assignees.add(assignment(member));
+            }
+            taskService.assignMultipleUsers(taskId, assignees, owner.firebaseUid());
+        }
+    }
+
+    private static AssignTaskRequest assignment(Person member) {
+        return new AssignTaskRequest(member.firebaseUid(), member.name(), member.email(), null);
+    }
+}
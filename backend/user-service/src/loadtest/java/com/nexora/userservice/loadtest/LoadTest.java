@@ -0,0 +1,212 @@
+package com.nexora.userservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+
+import com.nexora.userservice.NexoraUserServiceApplication;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * End-to-end load test: boots the service on a random port against a
+ * throwaway PostgreSQL database, seeds it (LoadSeeder), warms up, then runs
+ * the scenario mix from closed-loop clients and reports throughput,
+ * p50/p99/p999 latency and SQL statements per request for every endpoint.
+ * The report is printed and written as JSON. Run through the loadtest
+ * profile:
+ *
+ *   mvn -Ploadtest verify -Dload.args="clients=64 duration=2m"
+ *
+ * See LoadTestOptions for the arguments and their defaults.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadDatabase database = new LoadDatabase(options);
+        database.recreate();
+
+        StatementCountingFilter filter = new StatementCountingFilter();
+        ConfigurableApplicationContext context = null;
+        int exitCode = 1;
+        try {
+            context = start(options, filter);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            long seedStart = System.nanoTime();
+            LoadFixture fixture = new LoadSeeder(options, context).seed();
+            System.out.printf("Seeded %d users, %d projects, %d tasks in %.1fs%n",
+                    fixture.users.size(), fixture.projects.size(), fixture.tasks.size(),
+                    (System.nanoTime() - seedStart) / 1e9);
+
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            String baseUrl = "http://localhost:" + port;
+            ObjectMapper mapper = JsonMapper.builder().build();
+
+            System.out.println("Warming up for " + options.warmup());
+            run(options, options.warmup(), http, baseUrl, fixture, mapper);
+            filter.reset();
+
+            System.out.println("Measuring for " + options.duration() + " with " + options.clients() + " clients");
+            List<LoadClient> clients = run(options, options.duration(), http, baseUrl, fixture, mapper);
+
+            Map<String, Object> report = report(options, fixture, clients, filter);
+            Path result = options.result().toAbsolutePath();
+            Files.createDirectories(result.getParent());
+            JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build()
+                    .writeValue(result.toFile(), report);
+            System.out.println("Report written to " + result);
+            exitCode = 0;
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (!options.keepDatabase()) {
+                database.drop();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    // The statement counter is registered ahead of everything but the
+    // request-context filters, so it sees the whole request
+    private static ConfigurableApplicationContext start(LoadTestOptions options, StatementCountingFilter filter) {
+        // devtools would relaunch main() with the Spring arguments below
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(NexoraUserServiceApplication.class)
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        "loadTestStatementCountingFilter", FilterRegistrationBean.class, () -> {
+                            FilterRegistrationBean<StatementCountingFilter> registration =
+                                    new FilterRegistrationBean<>(filter);
+                            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+                            return registration;
+                        }))
+                .run(
+                        "--spring.datasource.url=" + options.jdbcUrl(),
+                        "--spring.datasource.username=" + options.username(),
+                        "--spring.datasource.password=" + options.password(),
+                        "--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.nexora.userservice=WARN",
+                        "--tasks.assignees.backfill.enabled=false",
+                        "--repository.metrics.enabled=true",
+                        // measures the service, not the per-user budgets (a client acts as many users)
+                        "--rate-limit.enabled=false",
+                        "--spring.threads.virtual.enabled=" + options.virtualThreads());
+    }
+
+    private static List<LoadClient> run(LoadTestOptions options, Duration duration, HttpClient http, String baseUrl,
+                                        LoadFixture fixture, ObjectMapper mapper) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<LoadClient> clients = new ArrayList<>(options.clients());
+        for (int i = 0; i < options.clients(); i++) {
+            clients.add(new LoadClient(http, baseUrl, fixture, mapper, options.mix(), deadline));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(options.clients());
+        try {
+            List<Future<?>> running = new ArrayList<>(clients.size());
+            for (LoadClient client : clients) {
+                running.add(executor.submit(client));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return clients;
+    }
+
+    // ========================================
+    // REPORT
+    // ========================================
+
+    private static Map<String, Object> report(LoadTestOptions options, LoadFixture fixture, List<LoadClient> clients,
+                                              StatementCountingFilter filter) {
+        Map<String, EndpointStats> endpoints = new TreeMap<>();
+        Map<Scenario, Long> scenarios = new EnumMap<>(Scenario.class);
+        for (LoadClient client : clients) {
+            client.endpoints().forEach((endpoint, stats) ->
+                    endpoints.computeIfAbsent(endpoint, e -> new EndpointStats()).merge(stats));
+            client.completed().forEach((scenario, count) -> scenarios.merge(scenario, count, Long::sum));
+        }
+
+        double seconds = options.duration().toNanos() / 1e9;
+        Map<String, Double> sql = filter.statementsPerRequest();
+        Map<String, Object> endpointReport = new LinkedHashMap<>();
+        EndpointStats total = new EndpointStats();
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            endpointReport.put(entry.getKey(), entry.getValue().toMap(seconds, sql.get(entry.getKey())));
+            total.merge(entry.getValue());
+        }
+        Map<String, Object> totals = total.toMap(seconds, null);
+        totals.remove("sqlPerRequest");
+        print(endpointReport, totals);
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("clients", options.clients());
+        config.put("warmup", options.warmup().toString());
+        config.put("duration", options.duration().toString());
+        config.put("virtualThreads", options.virtualThreads());
+        config.put("mix", labels(options.mix()));
+
+        Map<String, Object> seed = new LinkedHashMap<>();
+        seed.put("users", fixture.users.size());
+        seed.put("projects", fixture.projects.size());
+        seed.put("membersPerProject", options.membersPerProject());
+        seed.put("tasks", fixture.tasks.size());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("seed", seed);
+        report.put("endpoints", endpointReport);
+        report.put("scenarios", labels(scenarios));
+        report.put("totals", totals);
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> endpoints, Map<String, Object> totals) {
+        String format = "%-46s %9s %9s %9s %9s %9s %9s %7s%n";
+        System.out.printf(format, "Endpoint", "Requests", "Req/s", "p50 ms", "p99 ms", "p999 ms", "SQL/req", "Errors");
+        endpoints.forEach((endpoint, value) -> {
+            Map<String, Object> row = (Map<String, Object>) value;
+            System.out.printf(format, endpoint, row.get("requests"), row.get("throughputPerSec"), row.get("p50Ms"),
+                    row.get("p99Ms"), row.get("p999Ms"), row.get("sqlPerRequest"), row.get("errors"));
+        });
+        System.out.printf(format, "TOTAL", totals.get("requests"), totals.get("throughputPerSec"), totals.get("p50Ms"),
+                totals.get("p99Ms"), totals.get("p999Ms"), "", totals.get("errors"));
+    }
+
+    private static <V> Map<String, V> labels(Map<Scenario, V> byScenario) {
+        Map<String, V> result = new LinkedHashMap<>();
+        byScenario.forEach((scenario, value) -> result.put(scenario.label(), value));
+        return result;
+    }
+}
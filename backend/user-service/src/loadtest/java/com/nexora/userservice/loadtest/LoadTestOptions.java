@@ -0,0 +1,105 @@
+package com.nexora.userservice.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Harness settings from key=value arguments (-Dload.args="duration=2m clients=64").
+ * Database credentials default to the same environment variables as
+ * application.properties.
+ */
+record LoadTestOptions(
+        String server,
+        String database,
+        String username,
+        String password,
+        boolean keepDatabase,
+        int users,
+        int projects,
+        int membersPerProject,
+        int tasksPerProject,
+        double assignedShare,
+        double multiAssignedShare,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        boolean virtualThreads,
+        Map<Scenario, Integer> mix,
+        Path result) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            values.put(arg.substring(0, eq).trim(), arg.substring(eq + 1).trim());
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                take(values, "server", "jdbc:postgresql://localhost:5432"),
+                take(values, "database", "cloudtask_loadtest"),
+                take(values, "username", env("DATABASE_USERNAME", "postgres")),
+                take(values, "password", env("DATABASE_PASSWORD", "root")),
+                Boolean.parseBoolean(take(values, "keep-database", "false")),
+                Integer.parseInt(take(values, "users", "400")),
+                Integer.parseInt(take(values, "projects", "40")),
+                Integer.parseInt(take(values, "members-per-project", "8")),
+                Integer.parseInt(take(values, "tasks-per-project", "250")),
+                Double.parseDouble(take(values, "assigned-share", "0.6")),
+                Double.parseDouble(take(values, "multi-assigned-share", "0.1")),
+                Integer.parseInt(take(values, "clients", "32")),
+                DurationStyle.detectAndParse(take(values, "warmup", "15s")),
+                DurationStyle.detectAndParse(take(values, "duration", "60s")),
+                Boolean.parseBoolean(take(values, "virtual-threads", "false")),
+                parseMix(take(values, "mix", "board:35,dashboard:20,status-drag:20,assign:10,multi-assign:10,member-add:5")),
+                Path.of(take(values, "result", "target/load-test-result.json")));
+
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.membersPerProject() < 3 || options.membersPerProject() >= options.users() - 1) {
+            throw new IllegalArgumentException("members-per-project must be between 3 and users - 2");
+        }
+        return options;
+    }
+
+    String jdbcUrl() {
+        return server + "/" + database;
+    }
+
+    // "board:35,assign:10" -> weights; scenarios left out do not run
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split(":");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("mix entries are scenario:weight, got: " + part);
+            }
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.fromName(entry[0].trim().toLowerCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix has no scenario with a positive weight");
+        }
+        return weights;
+    }
+
+    private static String take(Map<String, String> values, String key, String defaultValue) {
+        String value = values.remove(key);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+}
@@ -0,0 +1,42 @@
+package com.nexora.userservice.loadtest;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * User actions the harness mixes, each the request sequence the frontend sends:
+ *   board        - open a project: details, tasks, members (revalidating with If-None-Match)
+ *   dashboard    - the user's projects and assigned tasks
+ *   status-drag  - drag a card to another column (compare-and-set transition)
+ *   assign       - the owner assigns a task to one member
+ *   multi-assign - the owner assigns a task to two or three members
+ *   member-add   - the owner adds a user to the project, then removes them again
+ */
+enum Scenario {
+    BOARD("board"),
+    DASHBOARD("dashboard"),
+    STATUS_DRAG("status-drag"),
+    ASSIGN("assign"),
+    MULTI_ASSIGN("multi-assign"),
+    MEMBER_ADD("member-add");
+
+    private final String name;
+
+    Scenario(String name) {
+        this.name = name;
+    }
+
+    String label() {
+        return name;
+    }
+
+    static Scenario fromName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.name.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario '" + name + "'; expected one of "
+                + Arrays.stream(values()).map(Scenario::label).collect(Collectors.joining(", ")));
+    }
+}
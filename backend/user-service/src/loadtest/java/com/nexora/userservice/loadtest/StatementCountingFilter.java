@@ -0,0 +1,62 @@
+package com.nexora.userservice.loadtest;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.nexora.userservice.service.RepositoryMetrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Server side of the harness: SQL statements Hibernate prepared while
+ * handling each request, summed per endpoint the client names in
+ * X-Load-Endpoint. Uses the per-thread count of RepositoryMetrics'
+ * StatementInspector, so it needs repository.metrics.enabled=true.
+ */
+final class StatementCountingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-Load-Endpoint";
+
+    private record Counts(LongAdder requests, LongAdder statements) {}
+
+    private final Map<String, Counts> counts = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String endpoint = request.getHeader(HEADER);
+        if (endpoint == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long before = RepositoryMetrics.statementsOnThisThread();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Counts endpointCounts = counts.computeIfAbsent(endpoint, e -> new Counts(new LongAdder(), new LongAdder()));
+            endpointCounts.requests().increment();
+            endpointCounts.statements().add(RepositoryMetrics.statementsOnThisThread() - before);
+        }
+    }
+
+    void reset() {
+        counts.clear();
+    }
+
+    Map<String, Double> statementsPerRequest() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        counts.forEach((endpoint, c) -> {
+            long requests = c.requests().sum();
+            result.put(endpoint, requests == 0 ? 0 : c.statements().sum() / (double) requests);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package com.nexora.userservice.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Orders a user's assigned tasks from task_assignees alone.
+ *
+ * Adds task_assignees.task_created_at, a copy of tasks.created_at kept
+ * current by two triggers (on assignee insert, which also covers the bulk
+ * INSERT ... SELECT and COPY paths, and on a task's created_at change), and
+ * idx_task_assignees_uid_created (firebase_uid, task_created_at DESC,
+ * task_id DESC). The my-tasks keyset pages (TaskRepository
+ * findAssignedTasksFirstPage / findAssignedTasksAfter) seek that index and
+ * join tasks only for the rows of the page.
+ *
+ * Runs as soon as the EntityManagerFactory has applied ddl-auto, before the
+ * assignee backfill inserts rows. Every step is a no-op once applied; adding
+ * the column fills it once from tasks.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class AssignedTaskOrderSchema implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${tasks.assignees.order.schema.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled || !databaseDialect.isPostgres()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(tx -> addCreatedAt());
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_task_assignees_uid_created " +
+                "ON task_assignees (firebase_uid, task_created_at DESC, task_id DESC)");
+    }
+
+    private void addCreatedAt() {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+                "WHERE table_name = 'task_assignees' AND column_name = 'task_created_at')", Boolean.class);
+        if (!Boolean.TRUE.equals(exists)) {
+            jdbcTemplate.execute("ALTER TABLE task_assignees ADD COLUMN task_created_at timestamp(6)");
+            int filled = jdbcTemplate.update("UPDATE task_assignees a SET task_created_at = t.created_at " +
+                    "FROM tasks t WHERE t.id = a.task_id");
+            log.info("Added task_assignees.task_created_at ({} rows)", filled);
+        }
+
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION task_assignees_set_created() RETURNS trigger AS $$ " +
+                "BEGIN " +
+                "NEW.task_created_at := (SELECT t.created_at FROM tasks t WHERE t.id = NEW.task_id); " +
+                "RETURN NEW; " +
+                "END $$ LANGUAGE plpgsql");
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION tasks_sync_created() RETURNS trigger AS $$ " +
+                "BEGIN " +
+                "UPDATE task_assignees SET task_created_at = NEW.created_at WHERE task_id = NEW.id; " +
+                "RETURN NULL; " +
+                "END $$ LANGUAGE plpgsql");
+        jdbcTemplate.execute("CREATE OR REPLACE TRIGGER task_assignees_created BEFORE INSERT ON task_assignees " +
+                "FOR EACH ROW EXECUTE FUNCTION task_assignees_set_created()");
+        jdbcTemplate.execute("CREATE OR REPLACE TRIGGER tasks_created AFTER UPDATE OF created_at ON tasks " +
+                "FOR EACH ROW WHEN (OLD.created_at IS DISTINCT FROM NEW.created_at) " +
+                "EXECUTE FUNCTION tasks_sync_created()");
+    }
+}
@@ -0,0 +1,30 @@
+package com.nexora.userservice.config;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Which database the DataSource points at, for the startup schema steps that
+ * issue PostgreSQL-only DDL. Asked once, on first use.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseDialect {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -2,12 +2,14 @@ package com.nexora.userservice.config;
 
 import org.springframework.context.annotation.Configuration;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Configuration
 public class FirebaseConfig {
 
     @PostConstruct
     public void initialize() {
-        System.out.println("Firebase Config loaded (service account key will be added later)");
+        log.info("Firebase Config loaded (service account key will be added later)");
     }
 }
@@ -0,0 +1,57 @@
+package com.nexora.userservice.config;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves the id sequences past ids handed out under the old IDENTITY columns.
+ *
+ * ddl-auto creates each *_seq starting at 1, which would collide with
+ * existing rows. Runs once every bean (and the schema update) is ready but
+ * before the web server accepts requests; a no-op when a sequence is
+ * already ahead of its table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAlignment implements SmartInitializingSingleton {
+
+    // table -> sequence, matching the @SequenceGenerator of each entity
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users_seq",
+            "projects", "projects_seq",
+            "project_members", "project_members_seq",
+            "tasks", "tasks_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    @Value("${ids.sequence-alignment.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled || !databaseDialect.isPostgres()) {
+            return;
+        }
+
+        SEQUENCES.forEach((table, sequence) -> {
+            // Pooled ids come from (value - 49 .. value], so the sequence must be >= max(id)
+            Long aligned = jdbcTemplate.query(
+                    "SELECT setval('" + sequence + "', m.max_id) " +
+                    "FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM " + table + ") m " +
+                    "WHERE m.max_id > 0 AND m.max_id >= (SELECT last_value FROM " + sequence + ")",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+            if (aligned != null) {
+                log.info("Aligned {} with {} (max id {})", sequence, table, aligned);
+            }
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package com.nexora.userservice.config;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.nexora.userservice.service.RateLimiter;
+import com.nexora.userservice.service.RateLimiter.EndpointClass;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admission control for /api: classifies each request as a read, write or
+ * bulk operation, identifies the caller by the firebaseUid it acts as (query
+ * parameter, or the path of the caller's own project list, falling back to
+ * the client address) and answers 429
+ * with Retry-After once that caller's RateLimiter bucket, or the wider one of
+ * the client address, is empty. Runs after
+ * Spring Security, so rejections still carry the CORS headers the frontend
+ * needs to read them. Disable with rate-limit.enabled=false.
+ *
+ * The uid key is advisory until requests are authenticated: nothing proves
+ * the caller is that user, so a client can claim someone else's uid (and use
+ * up their budget) or a new uid per request. The per-address ceiling is what
+ * bounds the latter; the address is the proxy-resolved remote address (see
+ * server.forward-headers-strategy).
+ */
+@Component
+@Order(SecurityFilterProperties.DEFAULT_FILTER_ORDER + 1)
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Only the caller's own uid; /api/task/assignee/{uid} names whose tasks are read, not who reads them
+    private static final String OWN_UID_PATH_PREFIX = "/api/project/user/";
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/api/")
+                || path.equals("/api/ping")
+                || path.startsWith("/api/health")
+                || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Duration wait = rateLimiter.tryAcquire(caller(request), request.getRemoteAddr(), classify(request));
+        if (wait.isZero()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        // Whole seconds, rounded up, so a client honouring it finds a token
+        long retryAfter = Math.max(1, (wait.toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests, retry after " + retryAfter + "s\"}");
+    }
+
+    // Bulk: many tasks per request (bulk create/assign/unassign, import, export)
+    private static EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/task/bulk") || path.endsWith("/import") || path.endsWith("/export")) {
+            return EndpointClass.BULK;
+        }
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? EndpointClass.READ : EndpointClass.WRITE;
+    }
+
+    // getParameter only parses form bodies, so JSON and import bodies are left unread
+    private static String caller(HttpServletRequest request) {
+        String uid = request.getParameter("firebaseUid");
+        if (uid == null || uid.isEmpty()) {
+            uid = request.getParameter("requestorFirebaseUid");
+        }
+        if (uid == null || uid.isEmpty()) {
+            String path = request.getRequestURI();
+            if (path.startsWith(OWN_UID_PATH_PREFIX)) {
+                uid = path.substring(OWN_UID_PATH_PREFIX.length());
+            }
+        }
+        return uid != null && !uid.isEmpty() ? "uid:" + uid : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,57 @@
+package com.nexora.userservice.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * AsyncAppender (bounded queue, one writer thread) that samples instead of
+ * dropping everything under pressure: once the queue is past the discarding
+ * threshold, one in sampleRate INFO/DEBUG/TRACE events is still kept (0 drops
+ * them all); WARN and ERROR are always queued. With neverBlock a full queue
+ * drops the event rather than stalling the request thread. Dropped events
+ * are counted for /api/health.
+ */
+public class SamplingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    private final AtomicLong discardable = new AtomicLong();
+    private int sampleRate = 10;
+
+    public static long droppedEvents() {
+        return DROPPED.sum();
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    // Only consulted while the queue is past the discarding threshold
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        if (!super.isDiscardable(event)) {
+            return false;
+        }
+        if (sampleRate > 0 && discardable.incrementAndGet() % sampleRate == 0) {
+            return false;
+        }
+        DROPPED.increment();
+        return true;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            DROPPED.increment();
+            return;
+        }
+        super.append(event);
+    }
+}
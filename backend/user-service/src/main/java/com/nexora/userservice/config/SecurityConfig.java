@@ -27,6 +27,7 @@ public class SecurityConfig {
         
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         config.setAllowedHeaders(Arrays.asList("*"));
+        config.setExposedHeaders(Arrays.asList("ETag", "X-Request-Id", "Retry-After"));  // conditional reloads, log correlation, 429 back-off
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);  // Cache preflight for 1 hour
         
@@ -0,0 +1,73 @@
+package com.nexora.userservice.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.repository.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One-time backfill of the task_assignees table from the legacy
+ * assigneesJson / assigneeUserId columns. Runs in small transactions once
+ * every bean (and the schema update) is ready but before the web server
+ * accepts requests, so no read of task_assignees misses a legacy assignee;
+ * a no-op once every task has been migrated.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskAssigneeMigration implements SmartInitializingSingleton {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${tasks.assignees.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tasks.assignees.backfill.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+
+        int migrated = 0;
+        int skipped = 0;
+        long afterId = 0;
+        Batch batch;
+        do {
+            // Walk by id: tasks skipped for unparseable JSON stay in the query
+            long from = afterId;
+            batch = transactionTemplate.execute(status -> {
+                List<Task> tasks = taskRepository.findWithLegacyAssignees(from, PageRequest.of(0, batchSize));
+                List<Task> changed = tasks.stream().filter(Task::migrateLegacyAssignees).toList();
+                taskRepository.saveAll(changed);
+                long lastId = tasks.isEmpty() ? from : tasks.get(tasks.size() - 1).getId();
+                return new Batch(tasks.size(), changed.size(), lastId);
+            });
+            migrated += batch.migrated();
+            skipped += batch.read() - batch.migrated();
+            afterId = batch.lastId();
+        } while (batch.read() == batchSize);
+
+        if (migrated > 0) {
+            log.info("Migrated assignees of {} tasks into task_assignees", migrated);
+        }
+        if (skipped > 0) {
+            log.warn("Skipped {} tasks whose legacy assignees JSON can't be parsed", skipped);
+        }
+    }
+
+    private record Batch(int read, int migrated, long lastId) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.nexora.userservice.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adds the full-text search column and its GIN index to tasks.
+ *
+ * search_vector is a stored generated column (title weighted A, description
+ * B), so PostgreSQL keeps it current on every insert and update and the
+ * entity never maps it. ddl-auto cannot express either object, hence this
+ * startup step; both statements are no-ops once they exist. Adding the
+ * column rewrites the table once.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchSchema implements SmartInitializingSingleton {
+
+    // Must match the configuration TaskRepository.searchTasks parses queries with
+    public static final String TEXT_SEARCH_CONFIG = "english";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    @Value("${tasks.search.schema.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled || !databaseDialect.isPostgres()) {
+            return;
+        }
+
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+                "WHERE table_name = 'tasks' AND column_name = 'search_vector')", Boolean.class);
+        if (!Boolean.TRUE.equals(exists)) {
+            jdbcTemplate.execute("ALTER TABLE tasks ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('" + TEXT_SEARCH_CONFIG + "', coalesce(title, '')), 'A') || " +
+                    "setweight(to_tsvector('" + TEXT_SEARCH_CONFIG + "', coalesce(description, '')), 'B')" +
+                    ") STORED");
+            log.info("Added tasks.search_vector");
+        }
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks USING GIN (search_vector)");
+    }
+}
@@ -0,0 +1,135 @@
+package com.nexora.userservice.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexora.userservice.entity.TaskStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compact task status storage and the "open task" partial indexes.
+ *
+ * 1. Converts a varchar tasks.status to the smallint TaskStatus code. Values
+ *    are matched case-insensitively (spaces and hyphens read as '_'); null
+ *    and anything unrecognised becomes TODO and is counted in the log. The
+ *    conversion rewrites the table once. A CHECK constraint then rejects codes
+ *    TaskStatus does not define.
+ *    (PostgreSQL enum types are avoided: Hibernate's ddl-auto=update drops
+ *    and recreates them, cascading to the column, on every start.)
+ * 2. Adds task_assignees.task_open, kept equal to "task is not DONE" by two
+ *    triggers (on assignee insert and on task status change), so open work per
+ *    assignee can be indexed without joining every assigned task.
+ * 3. Partial indexes holding only open rows: idx_tasks_open_project
+ *    (project_id, created_at, id) and idx_task_assignees_open
+ *    (firebase_uid, task_id).
+ *
+ * Runs as soon as the EntityManagerFactory has applied ddl-auto, before any
+ * other startup step reads tasks with the new mapping. Every step is a no-op
+ * once applied (functions and triggers are replaced in place; PostgreSQL 14+).
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class TaskStatusSchema implements InitializingBean {
+
+    private static final short DONE = TaskStatus.DONE.getCode();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${tasks.status.schema.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled || !databaseDialect.isPostgres()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(tx -> {
+            migrateStatusColumn();
+            addOpenFlag();
+        });
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_tasks_open_project " +
+                "ON tasks (project_id, created_at, id) WHERE status <> " + DONE);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_task_assignees_open " +
+                "ON task_assignees (firebase_uid, task_id) WHERE task_open");
+    }
+
+    private void migrateStatusColumn() {
+        String type = jdbcTemplate.queryForObject(
+                "SELECT data_type FROM information_schema.columns " +
+                "WHERE table_name = 'tasks' AND column_name = 'status'", String.class);
+        if ("character varying".equals(type) || "text".equals(type)) {
+            String normalized = "upper(translate(trim(status), ' -', '__'))";
+            StringBuilder toCode = new StringBuilder("CASE " + normalized);
+            for (TaskStatus status : TaskStatus.values()) {
+                toCode.append(" WHEN '").append(status.name()).append("' THEN ").append(status.getCode());
+            }
+            toCode.append(" ELSE ").append(TaskStatus.TODO.getCode()).append(" END");
+
+            Long unknown = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE status IS NULL OR " +
+                    normalized + " NOT IN (" + names() + ")", Long.class);
+            jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN status TYPE smallint USING " + toCode);
+            log.atInfo()
+                    .addKeyValue("unrecognized", unknown)
+                    .log("Converted tasks.status to smallint codes; unrecognized values set to TODO");
+        }
+        jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN status SET DEFAULT " + TaskStatus.TODO.getCode());
+        jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN status SET NOT NULL");
+
+        // Added once; drop it when TaskStatus gains a code and it is re-added
+        Boolean checked = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'tasks_status_check')", Boolean.class);
+        if (!Boolean.TRUE.equals(checked)) {
+            jdbcTemplate.execute("ALTER TABLE tasks ADD CONSTRAINT tasks_status_check CHECK (status IN (" +
+                    Arrays.stream(TaskStatus.values())
+                            .map(status -> String.valueOf(status.getCode()))
+                            .collect(Collectors.joining(", ")) + "))");
+        }
+    }
+
+    private void addOpenFlag() {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+                "WHERE table_name = 'task_assignees' AND column_name = 'task_open')", Boolean.class);
+        if (!Boolean.TRUE.equals(exists)) {
+            jdbcTemplate.execute("ALTER TABLE task_assignees ADD COLUMN task_open boolean NOT NULL DEFAULT true");
+            int closed = jdbcTemplate.update("UPDATE task_assignees a SET task_open = false " +
+                    "FROM tasks t WHERE t.id = a.task_id AND t.status = " + DONE);
+            log.info("Added task_assignees.task_open ({} rows of DONE tasks)", closed);
+        }
+
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION task_assignees_set_open() RETURNS trigger AS $$ " +
+                "BEGIN " +
+                "NEW.task_open := coalesce((SELECT t.status <> " + DONE + " FROM tasks t WHERE t.id = NEW.task_id), true); " +
+                "RETURN NEW; " +
+                "END $$ LANGUAGE plpgsql");
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION tasks_sync_open() RETURNS trigger AS $$ " +
+                "BEGIN " +
+                "UPDATE task_assignees SET task_open = (NEW.status <> " + DONE + ") WHERE task_id = NEW.id; " +
+                "RETURN NULL; " +
+                "END $$ LANGUAGE plpgsql");
+        jdbcTemplate.execute("CREATE OR REPLACE TRIGGER task_assignees_open BEFORE INSERT ON task_assignees " +
+                "FOR EACH ROW EXECUTE FUNCTION task_assignees_set_open()");
+        jdbcTemplate.execute("CREATE OR REPLACE TRIGGER tasks_open AFTER UPDATE OF status ON tasks FOR EACH ROW " +
+                "WHEN ((OLD.status = " + DONE + ") IS DISTINCT FROM (NEW.status = " + DONE + ")) " +
+                "EXECUTE FUNCTION tasks_sync_open()");
+    }
+
+    private static String names() {
+        return Arrays.stream(TaskStatus.values())
+                .map(status -> "'" + status.name() + "'")
+                .collect(Collectors.joining(", "));
+    }
+}
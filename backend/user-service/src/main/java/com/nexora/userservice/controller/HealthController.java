@@ -10,12 +10,19 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nexora.userservice.config.SamplingAsyncAppender;
+import com.nexora.userservice.service.ProjectEventBroadcaster;
+
+import lombok.RequiredArgsConstructor;
+
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 @CrossOrigin(origins = {"http://localhost:5173", "https://nexora-prod.vercel.app"})
 public class HealthController {
     
     private final LocalDateTime startTime = LocalDateTime.now();
+    private final ProjectEventBroadcaster projectEventBroadcaster;
     
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
@@ -24,6 +31,8 @@ public class HealthController {
         healthStatus.put("service", "Nexora Backend");
         healthStatus.put("timestamp", LocalDateTime.now());
         healthStatus.put("uptime", "Server started at: " + startTime);
+        healthStatus.put("eventSubscribers", projectEventBroadcaster.subscriberCount());
+        healthStatus.put("droppedLogEvents", SamplingAsyncAppender.droppedEvents());
         return ResponseEntity.ok(healthStatus);
     }
     
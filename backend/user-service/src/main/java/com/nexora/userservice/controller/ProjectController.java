@@ -1,9 +1,10 @@
 package com.nexora.userservice.controller;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,15 +15,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.nexora.userservice.dto.CursorPageResponse;
 import com.nexora.userservice.dto.ProjectRequest;
+import com.nexora.userservice.dto.UserProjectView;
 import com.nexora.userservice.entity.Project;
-import com.nexora.userservice.entity.ProjectMember;
-import com.nexora.userservice.entity.User;
-import com.nexora.userservice.repository.ProjectMemberRepository;
-import com.nexora.userservice.repository.UserRepository;
 import com.nexora.userservice.service.ProjectMemberService;
 import com.nexora.userservice.service.ProjectService;
+import com.nexora.userservice.service.ProjectVersions;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,8 +35,7 @@ public class ProjectController {
 
     private final ProjectService projectService;
     private final ProjectMemberService projectMemberService;
-    private final ProjectMemberRepository projectMemberRepository;
-    private final UserRepository userRepository;
+    private final ProjectVersions projectVersions;
 
     @GetMapping("/test")
     public ResponseEntity<String> test() {
@@ -47,46 +47,45 @@ public class ProjectController {
             @RequestBody ProjectRequest request,
             @RequestParam String firebaseUid
     ) {
-        // Create project
+        // Create project (the creator becomes its OWNER member)
         Project project = projectService.createProject(
                 request.getName(),
                 request.getDescription(),
                 firebaseUid
         );
 
-        // Automatically add creator as OWNER member
-        User owner = userRepository.findByFirebaseUid(firebaseUid)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        ProjectMember ownerMember = new ProjectMember();
-        ownerMember.setProject(project);
-        ownerMember.setUser(owner);
-        ownerMember.setRole(ProjectMember.MemberRole.OWNER);
-        projectMemberRepository.save(ownerMember);
-
         return ResponseEntity.ok(project);
     }
 
+    /**
+     * Projects the user owns or is a member of, each with the user's role.
+     * Optional limit/cursor switch to keyset pages (CursorPageResponse).
+     * Answers If-None-Match with 304 when none of the projects changed.
+     */
     @GetMapping("/user/{firebaseUid}")
-    public ResponseEntity<List<Project>> getUserProjects(@PathVariable String firebaseUid) {
-        // Get projects owned by user
-        List<Project> ownedProjects = projectService.getUserProjects(firebaseUid);
-
-        // Get projects where user is a member
-        User user = userRepository.findByFirebaseUid(firebaseUid)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<ProjectMember> memberships = projectMemberRepository.findByUser(user);
-        List<Project> memberProjects = memberships.stream()
-                .map(ProjectMember::getProject)
-                .filter(project -> !project.getOwner().getId().equals(user.getId())) // Exclude owned projects
-                .collect(Collectors.toList());
+    public ResponseEntity<?> getUserProjects(
+            @PathVariable String firebaseUid,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(projectVersions.userProjectsETag(firebaseUid))) {
+            return null;
+        }
 
-        // Combine and return
-        List<Project> allProjects = new ArrayList<>(ownedProjects);
-        allProjects.addAll(memberProjects);
+        if (limit == null && cursor == null) {
+            List<UserProjectView> projects = projectService.getUserProjectViews(firebaseUid);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(projects);
+        }
 
-        return ResponseEntity.ok(allProjects);
+        try {
+            CursorPageResponse<UserProjectView> page = projectService.getUserProjectsPage(
+                    firebaseUid, cursor, limit != null ? limit : ProjectService.DEFAULT_PAGE_SIZE);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
     @GetMapping("/{id}")
@@ -4,9 +4,12 @@ import com.nexora.userservice.dto.AddMemberRequest;
 import com.nexora.userservice.dto.MemberResponse;
 import com.nexora.userservice.entity.ProjectMember;
 import com.nexora.userservice.service.ProjectMemberService;
+import com.nexora.userservice.service.ProjectVersions;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,14 +21,21 @@ import java.util.stream.Collectors;
 public class ProjectMemberController {
 
     private final ProjectMemberService projectMemberService;
+    private final ProjectVersions projectVersions;
 
+    // 304 for a matching If-None-Match, without loading the members
     @GetMapping
-    public ResponseEntity<List<MemberResponse>> getMembers(@PathVariable Long projectId) {
+    public ResponseEntity<List<MemberResponse>> getMembers(@PathVariable Long projectId, WebRequest webRequest) {
+        String eTag = projectVersions.eTag("members", projectId).orElse(null);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<ProjectMember> members = projectMemberService.getProjectMembers(projectId);
         List<MemberResponse> response = members.stream()
                 .map(MemberResponse::fromEntity)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(response);
     }
 
     @PostMapping
@@ -1,19 +1,58 @@
 package com.nexora.userservice.controller;
 
 import com.nexora.userservice.dto.AssignTaskRequest;
+import com.nexora.userservice.dto.BulkOperationResponse;
+import com.nexora.userservice.dto.BulkTaskCreateRequest;
+import com.nexora.userservice.dto.CursorPageResponse;
+import com.nexora.userservice.dto.ProjectTaskStatsResponse;
+import com.nexora.userservice.dto.StatusTransitionRequest;
+import com.nexora.userservice.dto.TaskCardResponse;
+import com.nexora.userservice.dto.TaskSearchHit;
+import com.nexora.userservice.dto.TaskStatusRow;
+import com.nexora.userservice.dto.TaskImportEvent;
 import com.nexora.userservice.dto.TaskRequest;
 import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.service.ProjectEventBroadcaster;
 import com.nexora.userservice.service.ProjectMemberService;
+import com.nexora.userservice.service.ProjectVersions;
+import com.nexora.userservice.service.TaskExportService;
+import com.nexora.userservice.service.TaskFileFormat;
+import com.nexora.userservice.service.TaskImportService;
+import com.nexora.userservice.service.TaskListCache;
 import com.nexora.userservice.service.TaskService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/task")
 @RequiredArgsConstructor
@@ -22,6 +61,13 @@ public class TaskController {
 
     private final TaskService taskService;
     private final ProjectMemberService projectMemberService;
+    private final TaskImportService taskImportService;
+    private final TaskExportService taskExportService;
+    private final ProjectEventBroadcaster projectEventBroadcaster;
+    private final ProjectVersions projectVersions;
+    private final TaskListCache taskListCache;
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper;
 
     // ========================================
     // EXISTING ENDPOINTS
@@ -51,29 +97,297 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
 
-    @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<Task>> getProjectTasks(
+    /**
+     * Create many tasks in one transaction
+     * POST /api/task/bulk
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createTasks(
+            @RequestBody BulkTaskCreateRequest request,
+            @RequestParam String firebaseUid
+    ) {
+        if (!projectMemberService.hasAccess(request.getProjectId(), firebaseUid)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        try {
+            BulkOperationResponse result = taskService.createTasks(
+                    request.getProjectId(), request.getTasks(), firebaseUid);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Stream an NDJSON or CSV file of tasks into a project
+     * POST /api/task/project/{projectId}/import
+     * Responds with NDJSON progress events as chunks are committed.
+     */
+    @PostMapping(value = "/project/{projectId}/import", consumes = {"application/x-ndjson", "text/csv"})
+    public void importTasks(
+            @PathVariable Long projectId,
+            @RequestParam String firebaseUid,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        if (!projectMemberService.hasAccess(projectId, firebaseUid)) {
+            response.setStatus(403);
+            return;
+        }
+
+        TaskFileFormat format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(TaskFileFormat.CSV.getMediaType()))
+                ? TaskFileFormat.CSV
+                : TaskFileFormat.NDJSON;
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        Consumer<TaskImportEvent> writeEvent = event -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(event));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        try {
+            taskImportService.importTasks(projectId, firebaseUid, format,
+                    new InputStreamReader(request.getInputStream(), charset), writeEvent);
+        } catch (UncheckedIOException e) {
+            // Client went away; committed chunks stay
+        } catch (Exception e) {
+            TaskImportEvent failed = new TaskImportEvent();
+            failed.setType("failed");
+            failed.setMessage(e.getMessage());
+            writeEvent.accept(failed);
+        }
+    }
+
+    /**
+     * Stream all tasks of a project as NDJSON (default) or CSV
+     * GET /api/task/project/{projectId}/export?format=csv
+     */
+    @GetMapping("/project/{projectId}/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable Long projectId,
+            @RequestParam String firebaseUid,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        if (!projectMemberService.hasAccess(projectId, firebaseUid)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        TaskFileFormat fileFormat;
+        try {
+            fileFormat = TaskFileFormat.fromName(format);
+        } catch (IllegalArgumentException e) {
+            // Streaming return type, so the usual error map is written by hand
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> out.write(objectMapper.writeValueAsBytes(error)));
+        }
+
+        StreamingResponseBody body = out -> taskExportService.exportTasks(projectId, fileFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fileFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"project-" + projectId + "-tasks." + fileFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Live change feed of a project board (Server-Sent Events)
+     * GET /api/task/project/{projectId}/events
+     * Event names: created, updated, assigned, deleted, reload
+     */
+    @GetMapping(value = "/project/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProjectEvents(
             @PathVariable Long projectId,
             @RequestParam String firebaseUid
+    ) {
+        if (!projectMemberService.hasAccess(projectId, firebaseUid)) {
+            return ResponseEntity.status(403).build();
+        }
+        return ResponseEntity.ok(projectEventBroadcaster.subscribe(projectId, firebaseUid));
+    }
+
+    /**
+     * Without limit/cursor: every task (unchanged response), served from
+     * TaskListCache when the board is hot.
+     * JSON by default; CBOR with Accept: application/cbor (own ETag, Vary: Accept).
+     * With limit or cursor: one keyset page plus nextCursor.
+     * A matching If-None-Match gets 304 from the project version alone,
+     * without reading the tasks table.
+     */
+    @GetMapping("/project/{projectId}")
+    public ResponseEntity<?> getProjectTasks(
+            @PathVariable Long projectId,
+            @RequestParam String firebaseUid,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
         // Check if user has access to the project
         if (!projectMemberService.hasAccess(projectId, firebaseUid)) {
             return ResponseEntity.status(403).build();
         }
 
-        List<Task> tasks = taskService.getProjectTasks(projectId);
-        return ResponseEntity.ok(tasks);
+        if (limit == null && cursor == null) {
+            return cachedTaskList(projectId, TaskListCache.View.ALL, webRequest);
+        }
+
+        TaskListCache.Format format = TaskListCache.Format.fromAccept(webRequest.getHeader(HttpHeaders.ACCEPT));
+        String eTag = format.eTag(projectVersions.eTag("tasks", projectId).orElse(null));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        try {
+            CursorPageResponse<Task> page = taskService.getProjectTasksPage(
+                    projectId, cursor, limit != null ? limit : TaskService.DEFAULT_PAGE_SIZE);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .contentType(format.getMediaType())
+                    .body(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Lean board cards for a project (no entity graph, assignees once)
+     * GET /api/task/project/{projectId}/cards
+     * Optional limit/cursor return a keyset page, as for the full task list
+     */
+    @GetMapping("/project/{projectId}/cards")
+    public ResponseEntity<?> getProjectTaskCards(
+            @PathVariable Long projectId,
+            @RequestParam String firebaseUid,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        if (!projectMemberService.hasAccess(projectId, firebaseUid)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        if (limit == null && cursor == null) {
+            List<TaskCardResponse> cards = taskService.getProjectTaskCards(projectId);
+            return ResponseEntity.ok(cards);
+        }
+
+        try {
+            CursorPageResponse<TaskCardResponse> page = taskService.getProjectTaskCardsPage(
+                    projectId, cursor, limit != null ? limit : TaskService.DEFAULT_PAGE_SIZE);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Full-text search over task titles and descriptions, best match first
+     * GET /api/task/search?q=...&firebaseUid=...
+     * Covers every project the caller can access unless projectId narrows it;
+     * limit/cursor page through the results
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTasks(
+            @RequestParam String q,
+            @RequestParam String firebaseUid,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        if (projectId != null && !projectMemberService.hasAccess(projectId, firebaseUid)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        try {
+            CursorPageResponse<TaskSearchHit> page = taskService.searchTasks(firebaseUid, q, projectId, cursor,
+                    limit != null ? limit : TaskService.DEFAULT_SEARCH_PAGE_SIZE);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
     @PatchMapping("/{id}/status")
-    public ResponseEntity<Task> updateTaskStatus(
+    public ResponseEntity<?> updateTaskStatus(
             @PathVariable Long id,
             @RequestParam String status,
             @RequestParam String firebaseUid
     ) {
         // TODO: Add more granular permission checks (only assigned user or admin can update)
-        Task task = taskService.updateTaskStatus(id, status);
-        return ResponseEntity.ok(task);
+        try {
+            Task task = taskService.updateTaskStatus(id, status);
+            return ResponseEntity.ok(task);
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(id);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Compare-and-set status change for concurrent board edits
+     * POST /api/task/{id}/transition
+     * Body: {"fromStatus": "TODO", "toStatus": "IN_PROGRESS", "version": 3}
+     * 409 with the current status and version when the task changed meanwhile,
+     * 400 for an unknown status or a move outside TaskStatus's transition table
+     */
+    @PostMapping("/{id}/transition")
+    public ResponseEntity<?> transitionTaskStatus(
+            @PathVariable Long id,
+            @RequestBody StatusTransitionRequest request,
+            @RequestParam String firebaseUid
+    ) {
+        if (!request.isValid()) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "fromStatus, toStatus and version are required");
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        Optional<TaskStatusRow> changed;
+        try {
+            changed = taskService.transitionStatus(
+                    id, request.getFromStatus(), request.getToStatus(), request.getVersion(), firebaseUid);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+        if (changed.isPresent()) {
+            return ResponseEntity.ok(changed.get());
+        }
+
+        // Not applied: find out why (slow path only)
+        Optional<Task> current = taskService.getTaskById(id);
+        if (current.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!projectMemberService.hasAccess(current.get().getProject().getId(), firebaseUid)) {
+            return ResponseEntity.status(403).build();
+        }
+        return conflict(current.get());
     }
 
     @DeleteMapping("/{id}")
@@ -85,6 +399,8 @@ public class TaskController {
             // ✅ NEW: Use permission-based delete
             taskService.deleteTaskWithPermission(id, firebaseUid);
             return ResponseEntity.noContent().build();
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(id);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -123,29 +439,21 @@ public class TaskController {
             return ResponseEntity.status(500).body(error);
         }
 
-        // 🔍 DEBUG LOGS
-        System.out.println("════════════════════════════════════════");
-        System.out.println("🔍 ASSIGN TASK REQUEST RECEIVED");
-        System.out.println("════════════════════════════════════════");
-        System.out.println("Task ID: " + taskId);
-        System.out.println("Requestor Firebase UID: " + requestorFirebaseUid);
-        System.out.println("Request DTO: " + request.toString());
-        System.out.println("DTO Valid?: " + request.isValid());
-        System.out.println("════════════════════════════════════════");
-        
+        log.atDebug().addKeyValue("taskId", taskId).addKeyValue("requestor", requestorFirebaseUid)
+                .addKeyValue("assignee", request.getAssigneeUserId()).addKeyValue("valid", request.isValid())
+                .log("Assign task requested");
+
         try {
             Task task = taskService.assignTask(taskId, request, requestorFirebaseUid);
-            System.out.println("✅ Task assigned successfully!");
+            log.atInfo().addKeyValue("taskId", taskId).addKeyValue("assignee", request.getAssigneeUserId())
+                    .log("Task assigned");
             return ResponseEntity.ok(task);
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(taskId);
         } catch (Exception e) {
-            System.err.println("════════════════════════════════════════");
-            System.err.println("❌ ERROR ASSIGNING TASK");
-            System.err.println("════════════════════════════════════════");
-            System.err.println("Error Type: " + e.getClass().getName());
-            System.err.println("Error Message: " + e.getMessage());
-            e.printStackTrace();
-            System.err.println("════════════════════════════════════════");
-            
+            log.atWarn().addKeyValue("taskId", taskId).addKeyValue("requestor", requestorFirebaseUid)
+                    .setCause(e).log("Assigning task failed");
+
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
             return ResponseEntity.badRequest().body(error);
@@ -163,6 +471,8 @@ public class TaskController {
         try {
             Task task = taskService.unassignTask(taskId);
             return ResponseEntity.ok(task);
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(taskId);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -182,6 +492,8 @@ public class TaskController {
         try {
             Task task = taskService.reassignTask(taskId, request, requestorFirebaseUid);
             return ResponseEntity.ok(task);
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(taskId);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -192,12 +504,38 @@ public class TaskController {
     /**
      * Get all tasks assigned to current user (across all projects)
      * GET /api/task/my-tasks
+     * Optional limit/cursor switch to keyset pages, as for project tasks
      */
     @GetMapping("/my-tasks")
-    public ResponseEntity<List<Task>> getMyTasks(
+    public ResponseEntity<?> getMyTasks(
+            @RequestParam String firebaseUid,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit == null && cursor == null) {
+            List<Task> tasks = taskService.getTasksByAssignee(firebaseUid);
+            return ResponseEntity.ok(tasks);
+        }
+
+        try {
+            CursorPageResponse<Task> page = taskService.getTasksByAssigneePage(
+                    firebaseUid, cursor, limit != null ? limit : TaskService.DEFAULT_PAGE_SIZE);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Lean board cards of the tasks assigned to current user
+     * GET /api/task/my-tasks/cards
+     */
+    @GetMapping("/my-tasks/cards")
+    public ResponseEntity<List<TaskCardResponse>> getMyTaskCards(
             @RequestParam String firebaseUid) {
-        List<Task> tasks = taskService.getTasksByAssignee(firebaseUid);
-        return ResponseEntity.ok(tasks);
+        List<TaskCardResponse> cards = taskService.getTaskCardsByAssignee(firebaseUid);
+        return ResponseEntity.ok(cards);
     }
 
     /**
@@ -233,11 +571,44 @@ public class TaskController {
      * GET /api/task/my-tasks/status/{status}
      */
     @GetMapping("/my-tasks/status/{status}")
-    public ResponseEntity<List<Task>> getMyTasksByStatus(
+    public ResponseEntity<?> getMyTasksByStatus(
             @PathVariable String status,
             @RequestParam String firebaseUid) {
-        List<Task> tasks = taskService.getTasksByAssigneeAndStatus(firebaseUid, status);
-        return ResponseEntity.ok(tasks);
+        try {
+            List<Task> tasks = taskService.getTasksByAssigneeAndStatus(firebaseUid, status);
+            return ResponseEntity.ok(tasks);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Cards of my tasks that are not DONE, across all projects
+     * GET /api/task/my-tasks/open
+     */
+    @GetMapping("/my-tasks/open")
+    public ResponseEntity<List<TaskCardResponse>> getMyOpenTaskCards(
+            @RequestParam String firebaseUid) {
+        return ResponseEntity.ok(taskService.getOpenTaskCardsByAssignee(firebaseUid));
+    }
+
+    /**
+     * Cards of a project's tasks that are not DONE
+     * GET /api/task/project/{projectId}/open
+     */
+    @GetMapping("/project/{projectId}/open")
+    public ResponseEntity<List<TaskCardResponse>> getOpenProjectTaskCards(
+            @PathVariable Long projectId,
+            @RequestParam String firebaseUid) {
+        
+        // Check if user has access to the project
+        if (!projectMemberService.hasAccess(projectId, firebaseUid)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(taskService.getOpenProjectTaskCards(projectId));
     }
 
     /**
@@ -245,17 +616,17 @@ public class TaskController {
      * GET /api/task/project/{projectId}/unassigned
      */
     @GetMapping("/project/{projectId}/unassigned")
-    public ResponseEntity<List<Task>> getUnassignedTasks(
+    public ResponseEntity<byte[]> getUnassignedTasks(
             @PathVariable Long projectId,
-            @RequestParam String firebaseUid) {
+            @RequestParam String firebaseUid,
+            WebRequest webRequest) {
         
         // Check if user has access to the project
         if (!projectMemberService.hasAccess(projectId, firebaseUid)) {
             return ResponseEntity.status(403).build();
         }
 
-        List<Task> tasks = taskService.getUnassignedTasks(projectId);
-        return ResponseEntity.ok(tasks);
+        return cachedTaskList(projectId, TaskListCache.View.UNASSIGNED, webRequest);
     }
 
     /**
@@ -263,17 +634,17 @@ public class TaskController {
      * GET /api/task/project/{projectId}/assigned
      */
     @GetMapping("/project/{projectId}/assigned")
-    public ResponseEntity<List<Task>> getAssignedTasks(
+    public ResponseEntity<byte[]> getAssignedTasks(
             @PathVariable Long projectId,
-            @RequestParam String firebaseUid) {
+            @RequestParam String firebaseUid,
+            WebRequest webRequest) {
         
         // Check if user has access to the project
         if (!projectMemberService.hasAccess(projectId, firebaseUid)) {
             return ResponseEntity.status(403).build();
         }
 
-        List<Task> tasks = taskService.getAssignedTasks(projectId);
-        return ResponseEntity.ok(tasks);
+        return cachedTaskList(projectId, TaskListCache.View.ASSIGNED, webRequest);
     }
 
     /**
@@ -296,19 +667,42 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Task counts for the whole project in one query
+     * GET /api/task/project/{projectId}/stats
+     */
+    @GetMapping("/project/{projectId}/stats")
+    public ResponseEntity<ProjectTaskStatsResponse> getProjectStats(
+            @PathVariable Long projectId,
+            @RequestParam String firebaseUid) {
+        
+        // Check if user has access to the project
+        if (!projectMemberService.hasAccess(projectId, firebaseUid)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(taskService.getProjectStats(projectId));
+    }
+
     /**
      * Get count of my tasks by status
      * GET /api/task/my-count/status/{status}
      */
     @GetMapping("/my-count/status/{status}")
-    public ResponseEntity<Map<String, Long>> getMyTaskCountByStatus(
+    public ResponseEntity<?> getMyTaskCountByStatus(
             @PathVariable String status,
             @RequestParam String firebaseUid) {
         
-        Long count = taskService.getAssignedTaskCountByStatus(firebaseUid, status);
-        Map<String, Long> response = new HashMap<>();
-        response.put("count", count);
-        return ResponseEntity.ok(response);
+        try {
+            Long count = taskService.getAssignedTaskCountByStatus(firebaseUid, status);
+            Map<String, Long> response = new HashMap<>();
+            response.put("count", count);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
     /**
@@ -351,8 +745,7 @@ public class TaskController {
             @RequestBody Map<String, Object> request,
             @RequestParam String firebaseUid) {
         try {
-            @SuppressWarnings("unchecked")
-            List<Long> taskIds = (List<Long>) request.get("taskIds");
+            List<Long> taskIds = toTaskIds(request.get("taskIds"));
             
             AssignTaskRequest assigneeRequest = new AssignTaskRequest();
             assigneeRequest.setAssigneeUserId((String) request.get("assigneeUserId"));
@@ -360,8 +753,8 @@ public class TaskController {
             assigneeRequest.setAssigneeEmail((String) request.get("assigneeEmail"));
             assigneeRequest.setAssigneePhoto((String) request.get("assigneePhoto"));
             
-            List<Task> tasks = taskService.bulkAssignTasks(taskIds, assigneeRequest, firebaseUid);
-            return ResponseEntity.ok(tasks);
+            BulkOperationResponse result = taskService.bulkAssignTasks(taskIds, assigneeRequest, firebaseUid);
+            return ResponseEntity.ok(result);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -375,12 +768,12 @@ public class TaskController {
      */
     @PostMapping("/bulk-unassign")
     public ResponseEntity<?> bulkUnassignTasks(
-            @RequestBody Map<String, List<Long>> request,
+            @RequestBody Map<String, Object> request,
             @RequestParam String firebaseUid) {
         try {
-            List<Long> taskIds = request.get("taskIds");
-            List<Task> tasks = taskService.bulkUnassignTasks(taskIds);
-            return ResponseEntity.ok(tasks);
+            List<Long> taskIds = toTaskIds(request.get("taskIds"));
+            BulkOperationResponse result = taskService.bulkUnassignTasks(taskIds, firebaseUid);
+            return ResponseEntity.ok(result);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -388,6 +781,21 @@ public class TaskController {
         }
     }
 
+    // JSON numbers arrive as Integer or Long depending on size
+    private static List<Long> toTaskIds(Object raw) {
+        if (!(raw instanceof List<?> list)) {
+            throw new IllegalArgumentException("taskIds must be a list of task ids");
+        }
+        List<Long> taskIds = new ArrayList<>(list.size());
+        for (Object id : list) {
+            if (!(id instanceof Number number)) {
+                throw new IllegalArgumentException("taskIds must be a list of task ids");
+            }
+            taskIds.add(number.longValue());
+        }
+        return taskIds;
+    }
+
     /**
      * Assign multiple users to a task
      * POST /api/task/{taskId}/assign-multiple
@@ -415,13 +823,9 @@ public class TaskController {
             return ResponseEntity.status(500).body(error);
         }
 
-        // 🔍 DEBUG LOGS
-        System.out.println("════════════════════════════════════════");
-        System.out.println("🔍 ASSIGN MULTIPLE USERS REQUEST");
-        System.out.println("════════════════════════════════════════");
-        System.out.println("Task ID: " + taskId);
-        System.out.println("Requestor: " + requestorFirebaseUid);
-        
+        log.atDebug().addKeyValue("taskId", taskId).addKeyValue("requestor", requestorFirebaseUid)
+                .log("Assign multiple users requested");
+
         try {
             // Parse assignees from request
             @SuppressWarnings("unchecked")
@@ -430,7 +834,7 @@ public class TaskController {
             if (assigneesData == null || assigneesData.isEmpty()) {
                 // Empty list means unassign all
                 Task task = taskService.unassignTask(taskId);
-                System.out.println("✅ Task unassigned (no assignees)!");
+                log.atInfo().addKeyValue("taskId", taskId).log("Task unassigned (no assignees)");
                 return ResponseEntity.ok(task);
             }
             
@@ -444,17 +848,94 @@ public class TaskController {
                 assignees.add(req);
             }
             
-            System.out.println("Number of assignees: " + assignees.size());
-            
             Task task = taskService.assignMultipleUsers(taskId, assignees, requestorFirebaseUid);
-            System.out.println("✅ Task assigned to " + assignees.size() + " users!");
+            log.atInfo().addKeyValue("taskId", taskId).addKeyValue("assignees", assignees.size())
+                    .log("Task assigned to multiple users");
             return ResponseEntity.ok(task);
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(taskId);
         } catch (Exception e) {
-            System.err.println("❌ Error: " + e.getMessage());
-            e.printStackTrace();
+            log.atWarn().addKeyValue("taskId", taskId).addKeyValue("requestor", requestorFirebaseUid)
+                    .setCause(e).log("Assigning multiple users failed");
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
             return ResponseEntity.badRequest().body(error);
         }
     }
-}
\ No newline at end of file
+    // ========================================
+    // CONFLICTS
+    // ========================================
+
+    // A concurrent write won Task's @Version check: 409 with the state to retry from,
+    // the same body as /transition
+    private ResponseEntity<?> conflict(Long taskId) {
+        Optional<Task> current = taskService.getTaskById(taskId);
+        if (current.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return conflict(current.get());
+    }
+
+    private static ResponseEntity<?> conflict(Task current) {
+        Map<String, Object> conflict = new HashMap<>();
+        conflict.put("error", "Task was changed by someone else");
+        conflict.put("status", current.getStatus());
+        conflict.put("version", current.getVersion());
+        return ResponseEntity.status(409).body(conflict);
+    }
+
+    // ========================================
+    // CACHED TASK LISTS
+    // ========================================
+
+    // Serialized list + ETag from TaskListCache in the format the client accepts;
+    // a 304 when the client's copy is current
+    private ResponseEntity<byte[]> cachedTaskList(Long projectId, TaskListCache.View view, WebRequest webRequest) {
+        TaskListCache.Format format = TaskListCache.Format.fromAccept(webRequest.getHeader(HttpHeaders.ACCEPT));
+        TaskListCache.Entry entry = taskListCache.get(projectId, view, format,
+                () -> loadTaskList(projectId, view, format));
+        if (entry.eTag() != null && webRequest.checkNotModified(entry.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.getMediaType())
+                .body(entry.body());
+    }
+
+    // Version first, then the tasks (see ProjectVersions). CBOR is transcoded
+    // from the cached JSON, so both formats cost one query and one Jackson pass
+    private TaskListCache.Entry loadTaskList(Long projectId, TaskListCache.View view, TaskListCache.Format format) {
+        String resource = switch (view) {
+            case ALL -> "tasks";
+            case ASSIGNED -> "assigned-tasks";
+            case UNASSIGNED -> "unassigned-tasks";
+        };
+        if (format == TaskListCache.Format.CBOR) {
+            TaskListCache.Entry json = taskListCache.get(projectId, view, TaskListCache.Format.JSON,
+                    () -> loadTaskList(projectId, view, TaskListCache.Format.JSON));
+            // Tagged with the version the JSON body was built under: re-reading it could
+            // pair a just-committed version with a body from before the commit
+            return new TaskListCache.Entry(format.eTag(json.eTag()), toCbor(json.body()));
+        }
+        String eTag = projectVersions.eTag(resource, projectId).orElse(null);
+        List<Task> tasks = switch (view) {
+            case ALL -> taskService.getProjectTasks(projectId);
+            case ASSIGNED -> taskService.getAssignedTasks(projectId);
+            case UNASSIGNED -> taskService.getUnassignedTasks(projectId);
+        };
+        return new TaskListCache.Entry(eTag, objectMapper.writeValueAsBytes(tasks));
+    }
+
+    // Token-by-token copy from the JSON parser to the CBOR generator; no tree is built
+    private byte[] toCbor(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = objectMapper.createParser(json);
+             JsonGenerator generator = cborMapper.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,22 @@
+package com.nexora.userservice.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkOperationResponse {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BulkTaskResult> results;
+
+    public static BulkOperationResponse of(List<BulkTaskResult> results) {
+        BulkOperationResponse response = new BulkOperationResponse();
+        response.setResults(results);
+        response.setRequested(results.size());
+        response.setSucceeded((int) results.stream().filter(BulkTaskResult::isSuccess).count());
+        response.setFailed(response.getRequested() - response.getSucceeded());
+        return response;
+    }
+}
@@ -0,0 +1,11 @@
+package com.nexora.userservice.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class BulkTaskCreateRequest {
+    private Long projectId;
+    private List<TaskRequest> tasks; // projectId of each entry is ignored
+}
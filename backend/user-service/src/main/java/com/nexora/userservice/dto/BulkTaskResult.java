@@ -0,0 +1,22 @@
+package com.nexora.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResult {
+    private Long taskId;
+    private boolean success;
+    private String error; // null on success
+
+    public static BulkTaskResult ok(Long taskId) {
+        return new BulkTaskResult(taskId, true, null);
+    }
+
+    public static BulkTaskResult failed(Long taskId, String error) {
+        return new BulkTaskResult(taskId, false, error);
+    }
+}
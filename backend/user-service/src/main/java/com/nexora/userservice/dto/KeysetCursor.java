@@ -0,0 +1,67 @@
+package com.nexora.userservice.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.nexora.userservice.entity.Task;
+
+/**
+ * Opaque keyset cursor over (createdAt DESC, id DESC).
+ * Encoded as base64url("createdAt|id") so clients treat it as a token.
+ */
+public class KeysetCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static KeysetCursor after(Task task) {
+        return new KeysetCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public static KeysetCursor after(TaskCardResponse card) {
+        return new KeysetCursor(card.getCreatedAt(), card.getId());
+    }
+
+    public static KeysetCursor after(UserProjectView project) {
+        return new KeysetCursor(project.getCreatedAt(), project.getId());
+    }
+
+    /**
+     * Sorts before every real row; lets one query serve the first page too
+     */
+    public static KeysetCursor start() {
+        return new KeysetCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
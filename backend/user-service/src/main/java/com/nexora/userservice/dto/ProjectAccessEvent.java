@@ -0,0 +1,22 @@
+package com.nexora.userservice.dto;
+
+/**
+ * Access to a project's board ended: for one member when they were removed,
+ * for everyone (firebaseUid null) when the project was deleted. Published by
+ * ProjectMemberService and ProjectService; ProjectEventBroadcaster closes
+ * the matching event streams after commit.
+ */
+public record ProjectAccessEvent(Long projectId, String firebaseUid) {
+
+    public static ProjectAccessEvent memberRemoved(Long projectId, String firebaseUid) {
+        return new ProjectAccessEvent(projectId, firebaseUid);
+    }
+
+    public static ProjectAccessEvent projectDeleted(Long projectId) {
+        return new ProjectAccessEvent(projectId, null);
+    }
+
+    public boolean revokes(String subscriberUid) {
+        return firebaseUid == null || firebaseUid.equals(subscriberUid);
+    }
+}
@@ -0,0 +1,40 @@
+package com.nexora.userservice.dto;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Data
+public class ProjectTaskStatsResponse {
+    private Long projectId;
+    private long totalTasks;
+    private long unassignedTasks;
+    private Map<String, Long> byStatus = new TreeMap<>();
+    private Map<String, Long> unassignedByStatus = new TreeMap<>();
+    private Map<String, Long> byAssignee = new LinkedHashMap<>();
+    private Map<String, Map<String, Long>> byAssigneeAndStatus = new LinkedHashMap<>();
+
+    public static ProjectTaskStatsResponse fromRows(Long projectId, List<TaskStatsRow> rows) {
+        ProjectTaskStatsResponse stats = new ProjectTaskStatsResponse();
+        stats.setProjectId(projectId);
+        for (TaskStatsRow row : rows) {
+            String status = row.getStatus() != null ? row.getStatus().name() : "UNKNOWN";
+            stats.totalTasks += row.getTasks();
+            stats.byStatus.merge(status, row.getTasks(), Long::sum);
+
+            if (row.getFirebaseUid() == null) {
+                stats.unassignedTasks += row.getTasks();
+                stats.unassignedByStatus.merge(status, row.getTasks(), Long::sum);
+            } else {
+                stats.byAssignee.merge(row.getFirebaseUid(), row.getAssignments(), Long::sum);
+                stats.byAssigneeAndStatus
+                        .computeIfAbsent(row.getFirebaseUid(), uid -> new TreeMap<>())
+                        .merge(status, row.getAssignments(), Long::sum);
+            }
+        }
+        return stats;
+    }
+}
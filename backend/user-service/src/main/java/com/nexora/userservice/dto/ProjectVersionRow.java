@@ -0,0 +1,10 @@
+package com.nexora.userservice.dto;
+
+/**
+ * A project id with its content version. Interface projection over
+ * ProjectRepository.findUserProjectVersions.
+ */
+public interface ProjectVersionRow {
+    Long getId();
+    Long getContentVersion();
+}
@@ -0,0 +1,58 @@
+package com.nexora.userservice.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over search results, ordered by (rank DESC, id DESC).
+ * Encoded as base64url("rank|id") like KeysetCursor.
+ */
+public class SearchCursor {
+
+    private final float rank;
+    private final Long id;
+
+    public SearchCursor(float rank, Long id) {
+        this.rank = rank;
+        this.id = id;
+    }
+
+    public static SearchCursor after(TaskSearchHit hit) {
+        return new SearchCursor(hit.getRank(), hit.getId());
+    }
+
+    /**
+     * Sorts before every real result; lets one query serve the first page too
+     */
+    public static SearchCursor start() {
+        return new SearchCursor(Float.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            float rank = Float.parseFloat(raw.substring(0, sep));
+            // parseFloat also takes "NaN" and "Infinity", which no row compares against sanely
+            if (!Float.isFinite(rank)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new SearchCursor(rank, Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public float getRank() {
+        return rank;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,20 @@
+package com.nexora.userservice.dto;
+
+import lombok.Data;
+
+/**
+ * Compare-and-set status change: applied only while the task still has
+ * fromStatus and version
+ */
+@Data
+public class StatusTransitionRequest {
+    private String fromStatus;
+    private String toStatus;
+    private Long version;
+
+    public boolean isValid() {
+        return fromStatus != null && !fromStatus.isBlank()
+                && toStatus != null && !toStatus.isBlank()
+                && version != null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.nexora.userservice.dto;
+
+import java.time.LocalDateTime;
+
+import com.nexora.userservice.entity.Task;
+import lombok.Data;
+
+/**
+ * One task_assignees row keyed by task, read via constructor expression
+ * and grouped onto TaskCardResponse.
+ */
+@Data
+public class TaskAssigneeRow {
+    private Long taskId;
+    // The task's sort key; only the export stream selects it
+    private LocalDateTime taskCreatedAt;
+    private String firebaseUid;
+    private String name;
+    private String email;
+    private String photoUrl;
+
+    public TaskAssigneeRow(Long taskId, String firebaseUid, String name, String email, String photoUrl) {
+        this(taskId, null, firebaseUid, name, email, photoUrl);
+    }
+
+    public TaskAssigneeRow(Long taskId, LocalDateTime taskCreatedAt, String firebaseUid, String name,
+                           String email, String photoUrl) {
+        this.taskId = taskId;
+        this.taskCreatedAt = taskCreatedAt;
+        this.firebaseUid = firebaseUid;
+        this.name = name;
+        this.email = email;
+        this.photoUrl = photoUrl;
+    }
+
+    public Task.TaskAssignee toAssignee() {
+        return new Task.TaskAssignee(firebaseUid, name, email, photoUrl);
+    }
+}
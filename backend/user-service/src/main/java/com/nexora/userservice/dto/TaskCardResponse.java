@@ -0,0 +1,57 @@
+package com.nexora.userservice.dto;
+
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.TaskStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lean board-card view of a task, built straight from a JPQL constructor
+ * expression. No managed entity, no lazy project, and assignees appear once
+ * instead of as single fields + JSON string + array.
+ */
+@Data
+@NoArgsConstructor
+public class TaskCardResponse {
+    private Long id;
+    private Long projectId;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime assignedAt;
+    private Long version;
+    private List<Task.TaskAssignee> assignees = new ArrayList<>();
+
+    // Used by the constructor expressions in TaskRepository
+    public TaskCardResponse(Long id, Long projectId, String title, String description, TaskStatus status,
+                            String createdBy, LocalDateTime createdAt, LocalDateTime updatedAt,
+                            LocalDateTime assignedAt, Long version) {
+        this.id = id;
+        this.projectId = projectId;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.createdBy = createdBy;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.assignedAt = assignedAt;
+        this.version = version;
+    }
+
+    // Reads the assignees collection, so call it while the session is open
+    public static TaskCardResponse fromEntity(Task task) {
+        TaskCardResponse card = new TaskCardResponse(task.getId(),
+                task.getProject() != null ? task.getProject().getId() : null,
+                task.getTitle(), task.getDescription(), task.getStatus(), task.getCreatedBy(),
+                task.getCreatedAt(), task.getUpdatedAt(), task.getAssignedAt(), task.getVersion());
+        card.getAssignees().addAll(task.getAssignees());
+        return card;
+    }
+}
@@ -0,0 +1,60 @@
+package com.nexora.userservice.dto;
+
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.TaskStatus;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A change to a project's tasks, published by TaskService and pushed to
+ * board subscribers after commit. "reload" means the change was set-based
+ * (bulk operations, imports) and clients should refetch the list. "status"
+ * carries a partial card: only id, projectId, status, version and updatedAt.
+ */
+@Data
+@NoArgsConstructor
+public class TaskEvent {
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String ASSIGNED = "assigned";
+    public static final String STATUS = "status";
+    public static final String DELETED = "deleted";
+    public static final String RELOAD = "reload";
+
+    private String type;
+    private Long projectId;
+    private Long taskId;
+    private TaskCardResponse task; // null for deleted and reload
+
+    private TaskEvent(String type, Long projectId, Long taskId, TaskCardResponse task) {
+        this.type = type;
+        this.projectId = projectId;
+        this.taskId = taskId;
+        this.task = task;
+    }
+
+    // Snapshot taken now, inside the transaction, while lazy state can load
+    public static TaskEvent of(String type, Task task) {
+        TaskCardResponse card = TaskCardResponse.fromEntity(task);
+        return new TaskEvent(type, card.getProjectId(), card.getId(), card);
+    }
+
+    public static TaskEvent status(TaskStatusRow row) {
+        TaskCardResponse card = new TaskCardResponse();
+        card.setId(row.getId());
+        card.setProjectId(row.getProjectId());
+        card.setStatus(TaskStatus.valueOf(row.getStatus()));
+        card.setVersion(row.getVersion());
+        card.setUpdatedAt(row.getUpdatedAt());
+        return new TaskEvent(STATUS, row.getProjectId(), row.getId(), card);
+    }
+
+    public static TaskEvent deleted(Long projectId, Long taskId) {
+        return new TaskEvent(DELETED, projectId, taskId, null);
+    }
+
+    public static TaskEvent reload(Long projectId) {
+        return new TaskEvent(RELOAD, projectId, null, null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.nexora.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportError {
+    private long row; // 1-based record number, CSV header excluded
+    private String error;
+}
@@ -0,0 +1,32 @@
+package com.nexora.userservice.dto;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of the import response stream. A "progress" event follows every
+ * committed chunk and carries that chunk's row errors; the last event is
+ * "done" (totals) or "failed" (message; chunks already committed stay).
+ */
+@Data
+@NoArgsConstructor
+public class TaskImportEvent {
+    private String type; // progress, done, failed
+    private long rowsRead;
+    private long imported;
+    private long failed;
+    private List<TaskImportError> errors;
+    private String message;
+
+    public static TaskImportEvent of(String type, long rowsRead, long imported, long failed) {
+        TaskImportEvent event = new TaskImportEvent();
+        event.setType(type);
+        event.setRowsRead(rowsRead);
+        event.setImported(imported);
+        event.setFailed(failed);
+        event.setErrors(List.of());
+        return event;
+    }
+}
@@ -0,0 +1,22 @@
+package com.nexora.userservice.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.Data;
+
+/**
+ * One task of an import file (an NDJSON line or a CSV record).
+ * assignees are firebase UIDs or emails of project members; in CSV they
+ * are separated by ';'.
+ */
+@Data
+public class TaskImportRow {
+    private String title;
+    private String description;
+    private String status; // TODO, IN_PROGRESS, DONE; defaults to TODO
+
+    @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+    private List<String> assignees;
+}
@@ -0,0 +1,17 @@
+package com.nexora.userservice.dto;
+
+/**
+ * One full-text search result. Interface projection over
+ * TaskRepository.searchTasks; the highlight fields are HTML-escaped text
+ * with the matched words wrapped in &lt;mark&gt;.
+ */
+public interface TaskSearchHit {
+    Long getId();
+    Long getProjectId();
+    String getProjectName();
+    String getTitle();
+    String getStatus();
+    Float getRank();
+    String getTitleHighlight();
+    String getSnippet();
+}
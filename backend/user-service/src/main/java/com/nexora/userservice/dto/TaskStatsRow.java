@@ -0,0 +1,19 @@
+package com.nexora.userservice.dto;
+
+import com.nexora.userservice.entity.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One (status, assignee) group of the project stats aggregation.
+ * firebaseUid is null for the unassigned group.
+ */
+@Data
+@AllArgsConstructor
+public class TaskStatsRow {
+    private TaskStatus status;
+    private String firebaseUid;
+    private Long assignments;   // task/assignee pairs in the group
+    private Long tasks;         // distinct tasks counted once, via their first assignee row
+}
@@ -0,0 +1,22 @@
+package com.nexora.userservice.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task's status fields right after a compare-and-set transition, as
+ * returned by TaskRepository.TRANSITION_STATUS.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusRow {
+    private Long id;
+    private Long projectId;
+    private String status;
+    private Long version;
+    private LocalDateTime updatedAt;
+}
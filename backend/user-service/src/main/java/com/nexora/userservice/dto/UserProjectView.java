@@ -0,0 +1,17 @@
+package com.nexora.userservice.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A project as listed on the caller's dashboard, with the caller's role.
+ * Interface projection over ProjectRepository.findUserProjects.
+ */
+public interface UserProjectView {
+    Long getId();
+    String getName();
+    String getDescription();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    String getOwnerFirebaseUid();
+    String getRole();
+}
@@ -13,14 +13,17 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+    @Index(name = "idx_projects_owner", columnList = "owner_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -43,4 +46,11 @@ public class Project {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    // Bumped with a single UPDATE by every change to the project's tasks,
+    // members or details (see ProjectVersions); never written through the entity
+    @JsonIgnore
+    @Column(name = "content_version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    private long contentVersion;
 }
\ No newline at end of file
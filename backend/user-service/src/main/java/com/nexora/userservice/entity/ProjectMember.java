@@ -12,6 +12,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "project_members", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"project_id", "user_id"})
+}, indexes = {
+    // "Projects I'm a member of" lookups; the unique key only serves project_id
+    @Index(name = "idx_project_members_user", columnList = "user_id")
 })
 @Data
 @NoArgsConstructor
@@ -19,7 +22,8 @@ import java.time.LocalDateTime;
 public class ProjectMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_members_seq")
+    @SequenceGenerator(name = "project_members_seq", sequenceName = "project_members_seq", allocationSize = 50)
     private Long id;
 
     @JsonIgnore  // ← ADD THIS - Prevents circular reference
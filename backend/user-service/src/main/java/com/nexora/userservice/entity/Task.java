@@ -1,16 +1,29 @@
 package com.nexora.userservice.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    // Serves the board list and its keyset pagination (createdAt DESC, id DESC)
+    @Index(name = "idx_tasks_project_created", columnList = "project_id, created_at, id")
+})
 public class Task {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence (50 ids per round trip) so inserts can be JDBC-batched;
+    // IDENTITY forces Hibernate to insert row by row to read back each id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
     
     private String title;
@@ -18,7 +31,16 @@ public class Task {
     @Column(length = 1000)
     private String description;
     
-    private String status; // TODO, IN_PROGRESS, DONE
+    // smallint code; varchar rows are converted by TaskStatusSchema
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(nullable = false)
+    private TaskStatus status;
+    
+    // Optimistic lock: every update checks and increments it; clients send it
+    // back with compare-and-set status transitions
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
     
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -37,7 +59,8 @@ public class Task {
     // ASSIGNEE FIELDS (Single + Multiple)
     // ========================================
     
-    // Multi-assignee support (stored as JSON)
+    // Legacy multi-assignee snapshot (JSON). Still written for clients that read it,
+    // but never queried - task_assignees is the source of truth.
     @Column(name = "assignees", columnDefinition = "TEXT")
     private String assigneesJson;
     
@@ -60,9 +83,16 @@ public class Task {
     @Column(name = "assigned_by")
     private String assignedBy;
     
-    // Transient field for multi-assignee operations
-    @Transient
-    private List<TaskAssignee> assignees;
+    // Multi-assignee support (normalized, indexed by firebase_uid)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(
+        name = "task_assignees",
+        joinColumns = @JoinColumn(name = "task_id"),
+        indexes = @Index(name = "idx_task_assignees_uid_task", columnList = "firebase_uid, task_id")
+    )
+    @OrderColumn(name = "position")
+    @BatchSize(size = 100)
+    private List<TaskAssignee> assignees = new ArrayList<>();
     
     // ========================================
     // CONSTRUCTORS
@@ -71,7 +101,7 @@ public class Task {
     public Task() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
-        this.status = "TODO";
+        this.status = TaskStatus.TODO;
     }
     
     public Task(String title, String description, Project project, String createdBy) {
@@ -110,15 +140,23 @@ public class Task {
         this.description = description;
     }
     
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
     
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
         this.updatedAt = LocalDateTime.now();
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -216,23 +254,19 @@ public class Task {
     // ========================================
     
     public List<TaskAssignee> getAssignees() {
-        if (assignees == null && assigneesJson != null && !assigneesJson.isEmpty()) {
-            try {
-                assignees = parseAssigneesFromJson(assigneesJson);
-            } catch (Exception e) {
-                assignees = new ArrayList<>();
-            }
-        }
-        return assignees != null ? assignees : new ArrayList<>();
+        return assignees;
     }
     
     public void setAssignees(List<TaskAssignee> assignees) {
-        this.assignees = assignees;
-        this.assigneesJson = convertAssigneesToJson(assignees);
+        // Copy first: callers may pass back the list returned by getAssignees()
+        List<TaskAssignee> incoming = distinctByFirebaseUid(assignees);
+        this.assignees.clear();
+        this.assignees.addAll(incoming);
+        this.assigneesJson = TaskAssigneeJson.write(incoming);
         
         // Set first assignee as primary for backward compatibility
-        if (assignees != null && !assignees.isEmpty()) {
-            TaskAssignee primary = assignees.get(0);
+        if (!incoming.isEmpty()) {
+            TaskAssignee primary = incoming.get(0);
             this.assigneeUserId = primary.getFirebaseUid();
             this.assigneeName = primary.getName();
             this.assigneeEmail = primary.getEmail();
@@ -245,107 +279,40 @@ public class Task {
         }
     }
     
-    // Parse JSON to List<TaskAssignee>
-    private List<TaskAssignee> parseAssigneesFromJson(String json) {
-        List<TaskAssignee> result = new ArrayList<>();
-        if (json == null || json.trim().isEmpty() || json.equals("[]")) {
-            return result;
-        }
-        
+    /**
+     * Moves assignees stored in the legacy columns (assigneesJson, or only the
+     * single assignee fields for tasks that were never multi-assigned) into
+     * task_assignees. Used by the startup backfill. Returns false, leaving
+     * the task untouched, when assigneesJson can't be parsed.
+     */
+    public boolean migrateLegacyAssignees() {
+        List<TaskAssignee> legacy;
         try {
-            json = json.trim();
-            if (json.startsWith("[") && json.endsWith("]")) {
-                json = json.substring(1, json.length() - 1).trim();
-                
-                if (json.isEmpty()) {
-                    return result;
-                }
-                
-                // Split by "},{"
-                String[] items = json.split("\\},\\s*\\{");
-                
-                for (String item : items) {
-                    item = item.replace("{", "").replace("}", "").trim();
-                    
-                    TaskAssignee assignee = new TaskAssignee();
-                    
-                    // Parse key-value pairs
-                    String[] pairs = item.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)"); // Split by comma not in quotes
-                    
-                    for (String pair : pairs) {
-                        String[] kv = pair.split(":", 2);
-                        if (kv.length == 2) {
-                            String key = kv[0].trim().replace("\"", "");
-                            String value = kv[1].trim();
-                            
-                            // Remove quotes from value
-                            if (value.startsWith("\"") && value.endsWith("\"")) {
-                                value = value.substring(1, value.length() - 1);
-                            }
-                            
-                            switch (key) {
-                                case "firebaseUid":
-                                    assignee.setFirebaseUid(value);
-                                    break;
-                                case "name":
-                                    assignee.setName(value);
-                                    break;
-                                case "email":
-                                    assignee.setEmail(value);
-                                    break;
-                                case "photoUrl":
-                                    assignee.setPhotoUrl(value.isEmpty() ? null : value);
-                                    break;
-                            }
-                        }
-                    }
-                    
-                    result.add(assignee);
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error parsing assignees JSON: " + e.getMessage());
+            legacy = distinctByFirebaseUid(TaskAssigneeJson.read(assigneesJson));
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping assignees of task {}, JSON can't be parsed: {}", id, e.getMessage());
+            return false;
         }
-        
-        return result;
+        // Entries without a uid don't count: fall back to the single column
+        if (legacy.isEmpty() && assigneeUserId != null && !assigneeUserId.isEmpty()) {
+            legacy.add(new TaskAssignee(assigneeUserId, assigneeName, assigneeEmail, assigneePhoto));
+        }
+        setAssignees(legacy);
+        return true;
     }
     
-    // Convert List<TaskAssignee> to JSON
-    private String convertAssigneesToJson(List<TaskAssignee> assignees) {
+    // Drop duplicate/blank uids so a task joins at most once per assignee
+    private static List<TaskAssignee> distinctByFirebaseUid(List<TaskAssignee> assignees) {
         if (assignees == null || assignees.isEmpty()) {
-            return "[]";
+            return new ArrayList<>();
         }
-        
-        StringBuilder json = new StringBuilder("[");
-        
-        for (int i = 0; i < assignees.size(); i++) {
-            TaskAssignee a = assignees.get(i);
-            
-            if (i > 0) {
-                json.append(",");
+        Map<String, TaskAssignee> byUid = new LinkedHashMap<>();
+        for (TaskAssignee a : assignees) {
+            if (a != null && a.getFirebaseUid() != null && !a.getFirebaseUid().isEmpty()) {
+                byUid.putIfAbsent(a.getFirebaseUid(), a);
             }
-            
-            json.append("{");
-            json.append("\"firebaseUid\":\"").append(escapeJson(a.getFirebaseUid())).append("\",");
-            json.append("\"name\":\"").append(escapeJson(a.getName())).append("\",");
-            json.append("\"email\":\"").append(escapeJson(a.getEmail())).append("\",");
-            json.append("\"photoUrl\":\"").append(a.getPhotoUrl() != null ? escapeJson(a.getPhotoUrl()) : "").append("\"");
-            json.append("}");
-        }
-        
-        json.append("]");
-        return json.toString();
-    }
-    
-    // Escape special characters in JSON strings
-    private String escapeJson(String value) {
-        if (value == null) {
-            return "";
         }
-        return value.replace("\\", "\\\\")
-                    .replace("\"", "\\\"")
-                    .replace("\n", "\\n")
-                    .replace("\r", "\\r");
+        return new ArrayList<>(byUid.values());
     }
     
     // ========================================
@@ -353,7 +320,7 @@ public class Task {
     // ========================================
     
     public boolean isAssigned() {
-        return assigneeUserId != null || (assigneesJson != null && !assigneesJson.equals("[]"));
+        return assigneeUserId != null || !assignees.isEmpty();
     }
     
     public boolean isAssignedTo(String userId) {
@@ -361,8 +328,7 @@ public class Task {
             return true;
         }
         
-        List<TaskAssignee> list = getAssignees();
-        return list.stream().anyMatch(a -> a.getFirebaseUid().equals(userId));
+        return assignees.stream().anyMatch(a -> a.getFirebaseUid().equals(userId));
     }
     
     public String getAssigneeDisplayName() {
@@ -387,7 +353,7 @@ public class Task {
                 "id=" + id +
                 ", title='" + title + '\'' +
                 ", status='" + status + '\'' +
-                ", assignees=" + getAssignees().size() +
+                ", assigneeUserId='" + assigneeUserId + '\'' +
                 ", createdAt=" + createdAt +
                 '}';
     }
@@ -396,10 +362,18 @@ public class Task {
     // INNER CLASS: TaskAssignee
     // ========================================
     
+    @Embeddable
     public static class TaskAssignee {
+        @Column(name = "firebase_uid", nullable = false)
         private String firebaseUid;
+        
+        @Column(name = "name")
         private String name;
+        
+        @Column(name = "email")
         private String email;
+        
+        @Column(name = "photo_url")
         private String photoUrl;
         
         public TaskAssignee() {}
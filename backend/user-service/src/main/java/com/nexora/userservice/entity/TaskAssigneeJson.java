@@ -0,0 +1,322 @@
+package com.nexora.userservice.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass reader/writer for the legacy assignees JSON column
+ * ([{"firebaseUid":"..","name":"..","email":"..","photoUrl":".."}, ...]).
+ *
+ * Strings without escapes are returned as one substring of the input, so
+ * reading allocates little beyond the resulting TaskAssignee objects.
+ * Unknown keys and non-string values are skipped; malformed input throws
+ * IllegalArgumentException.
+ */
+public final class TaskAssigneeJson {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // {"firebaseUid":"","name":"","email":"","photoUrl":""} plus the separating comma
+    private static final int OBJECT_OVERHEAD = 53;
+
+    private TaskAssigneeJson() {}
+
+    // ========================================
+    // WRITER
+    // ========================================
+
+    public static String write(List<Task.TaskAssignee> assignees) {
+        if (assignees == null || assignees.isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder json = new StringBuilder(estimateLength(assignees));
+        json.append('[');
+        for (int i = 0; i < assignees.size(); i++) {
+            Task.TaskAssignee a = assignees.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"firebaseUid\":");
+            writeString(json, a.getFirebaseUid());
+            json.append(",\"name\":");
+            writeString(json, a.getName());
+            json.append(",\"email\":");
+            writeString(json, a.getEmail());
+            json.append(",\"photoUrl\":");
+            writeString(json, a.getPhotoUrl());
+            json.append('}');
+        }
+        json.append(']');
+        return json.toString();
+    }
+
+    // Exact size when nothing needs escaping, so the builder never grows
+    private static int estimateLength(List<Task.TaskAssignee> assignees) {
+        int length = 2;
+        for (Task.TaskAssignee a : assignees) {
+            length += OBJECT_OVERHEAD + length(a.getFirebaseUid()) + length(a.getName())
+                    + length(a.getEmail()) + length(a.getPhotoUrl());
+        }
+        return length;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    // Nulls are written as "" to keep the format the column has always had
+    private static void writeString(StringBuilder out, String value) {
+        out.append('"');
+        if (value != null) {
+            int runStart = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    continue;
+                }
+                out.append(value, runStart, i);
+                runStart = i + 1;
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    case '\b' -> out.append("\\b");
+                    case '\f' -> out.append("\\f");
+                    default -> out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                }
+            }
+            out.append(value, runStart, value.length());
+        }
+        out.append('"');
+    }
+
+    // ========================================
+    // READER
+    // ========================================
+
+    public static List<Task.TaskAssignee> read(String json) {
+        List<Task.TaskAssignee> result = new ArrayList<>();
+        if (json == null) {
+            return result;
+        }
+
+        Reader r = new Reader(json);
+        r.skipWhitespace();
+        if (r.atEnd()) {
+            return result;
+        }
+        r.expect('[');
+        r.skipWhitespace();
+        if (r.peek() == ']') {
+            r.pos++;
+            return result;
+        }
+
+        while (true) {
+            result.add(r.readAssignee());
+            r.skipWhitespace();
+            char c = r.next();
+            if (c == ']') {
+                break;
+            }
+            if (c != ',') {
+                throw r.error("expected ',' or ']'");
+            }
+            r.skipWhitespace();
+        }
+        return result;
+    }
+
+    private static final class Reader {
+        private final String in;
+        private int pos;
+
+        Reader(String in) {
+            this.in = in;
+        }
+
+        Task.TaskAssignee readAssignee() {
+            expect('{');
+            Task.TaskAssignee assignee = new Task.TaskAssignee();
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return assignee;
+            }
+
+            while (true) {
+                skipWhitespace();
+                expect('"');
+                int keyStart = pos;
+                int keyEnd = skipString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+
+                if (peek() == '"') {
+                    pos++;
+                    String value = readString();
+                    if (isKey(keyStart, keyEnd, "firebaseUid")) {
+                        assignee.setFirebaseUid(value);
+                    } else if (isKey(keyStart, keyEnd, "name")) {
+                        assignee.setName(value);
+                    } else if (isKey(keyStart, keyEnd, "email")) {
+                        assignee.setEmail(value);
+                    } else if (isKey(keyStart, keyEnd, "photoUrl")) {
+                        assignee.setPhotoUrl(value.isEmpty() ? null : value);
+                    }
+                } else {
+                    skipValue();
+                }
+
+                skipWhitespace();
+                char c = next();
+                if (c == '}') {
+                    return assignee;
+                }
+                if (c != ',') {
+                    throw error("expected ',' or '}'");
+                }
+            }
+        }
+
+        // Keys are plain ASCII, so an escaped key can never match a known field
+        private boolean isKey(int start, int end, String key) {
+            return end - start == key.length() && in.regionMatches(start, key, 0, key.length());
+        }
+
+        // Called just after the opening quote; leaves pos after the closing quote
+        String readString() {
+            int start = pos;
+            while (pos < in.length()) {
+                char c = in.charAt(pos);
+                if (c == '"') {
+                    return in.substring(start, pos++);
+                }
+                if (c == '\\') {
+                    return readEscapedString(start);
+                }
+                pos++;
+            }
+            throw error("unterminated string");
+        }
+
+        private String readEscapedString(int start) {
+            StringBuilder sb = new StringBuilder(pos - start + 16);
+            sb.append(in, start, pos);
+            while (pos < in.length()) {
+                char c = in.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char e = next();
+                switch (e) {
+                    case '"', '\\', '/' -> sb.append(e);
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> sb.append(readHexChar());
+                    default -> throw error("invalid escape '\\" + e + "'");
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        private char readHexChar() {
+            if (pos + 4 > in.length()) {
+                throw error("truncated unicode escape");
+            }
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(in.charAt(pos++), 16);
+                if (digit < 0) {
+                    throw error("invalid unicode escape");
+                }
+                value = (value << 4) | digit;
+            }
+            return (char) value;
+        }
+
+        // Skips a string body without decoding it; returns the index of the closing quote
+        private int skipString() {
+            while (pos < in.length()) {
+                char c = in.charAt(pos++);
+                if (c == '"') {
+                    return pos - 1;
+                }
+                if (c == '\\') {
+                    pos++;
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        // Skips null/true/false/numbers and nested objects or arrays
+        private void skipValue() {
+            int depth = 0;
+            while (pos < in.length()) {
+                char c = in.charAt(pos);
+                if (c == '"') {
+                    pos++;
+                    skipString();
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    if (depth == 0) {
+                        return;
+                    }
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    return;
+                }
+                pos++;
+            }
+            throw error("unexpected end of input");
+        }
+
+        void skipWhitespace() {
+            while (pos < in.length() && Character.isWhitespace(in.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        boolean atEnd() {
+            return pos >= in.length();
+        }
+
+        char peek() {
+            if (atEnd()) {
+                throw error("unexpected end of input");
+            }
+            return in.charAt(pos);
+        }
+
+        char next() {
+            char c = peek();
+            pos++;
+            return c;
+        }
+
+        void expect(char expected) {
+            if (next() != expected) {
+                pos--;
+                throw error("expected '" + expected + "'");
+            }
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid assignees JSON at index " + pos + ": " + message);
+        }
+    }
+}
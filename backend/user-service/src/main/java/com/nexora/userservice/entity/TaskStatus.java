@@ -0,0 +1,94 @@
+package com.nexora.userservice.entity;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lifecycle of a task. Stored as a smallint code (TaskStatusConverter), never
+ * the ordinal, so constants can be reordered; the API and JSON use the names.
+ * DONE is the only closed status: the "open" partial indexes (see
+ * TaskStatusSchema) cover everything else.
+ *
+ * Allowed transitions:
+ *   TODO        -> IN_PROGRESS, DONE
+ *   IN_PROGRESS -> TODO, DONE
+ *   DONE        -> IN_PROGRESS   (reopen)
+ */
+public enum TaskStatus {
+    TODO((short) 0),
+    IN_PROGRESS((short) 1),
+    DONE((short) 2);
+
+    // Code -> name for native queries that return the status column to
+    // String projections; must list every code above
+    public static final String SQL_NAME =
+            "CASE status WHEN 0 THEN 'TODO' WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'DONE' END";
+
+    private static final Map<TaskStatus, Set<TaskStatus>> TRANSITIONS = new EnumMap<>(TaskStatus.class);
+
+    static {
+        TRANSITIONS.put(TODO, Collections.unmodifiableSet(EnumSet.of(IN_PROGRESS, DONE)));
+        TRANSITIONS.put(IN_PROGRESS, Collections.unmodifiableSet(EnumSet.of(TODO, DONE)));
+        TRANSITIONS.put(DONE, Collections.unmodifiableSet(EnumSet.of(IN_PROGRESS)));
+    }
+
+    private final short code;
+
+    TaskStatus(short code) {
+        this.code = code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public boolean isOpen() {
+        return this != DONE;
+    }
+
+    public Set<TaskStatus> allowedTransitions() {
+        return TRANSITIONS.get(this);
+    }
+
+    public boolean canTransitionTo(TaskStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    public static TaskStatus fromCode(short code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status code " + code);
+    }
+
+    /**
+     * Case-insensitive; throws IllegalArgumentException naming the allowed
+     * values for anything else (including null and blank)
+     */
+    public static TaskStatus parse(String value) {
+        if (value != null) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                // fall through
+            }
+        }
+        throw new IllegalArgumentException("status must be one of TODO, IN_PROGRESS, DONE");
+    }
+
+    /**
+     * Throws IllegalArgumentException unless from -> to is in the table
+     */
+    public static void checkTransition(TaskStatus from, TaskStatus to) {
+        if (!from.canTransitionTo(to)) {
+            throw new IllegalArgumentException("Cannot move a task from " + from + " to " + to
+                    + "; allowed: " + from.allowedTransitions());
+        }
+    }
+}
@@ -4,10 +4,14 @@ import com.nexora.userservice.entity.Project;
 import com.nexora.userservice.entity.ProjectMember;
 import com.nexora.userservice.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
@@ -16,4 +20,22 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     Optional<ProjectMember> findByProjectAndUser(Project project, User user);
     boolean existsByProjectAndUser(Project project, User user);
     void deleteByProjectAndUser(Project project, User user);
+
+    /**
+     * Caller's role in one indexed statement: 'OWNER' for the project owner,
+     * otherwise their member role. Empty when the project does not exist or the
+     * user has no access.
+     */
+    @Query(value = "SELECT CASE WHEN o.firebase_uid = :firebaseUid THEN 'OWNER' ELSE pm.role END " +
+           "FROM projects p " +
+           "JOIN users o ON o.id = p.owner_id " +
+           "LEFT JOIN users u ON u.firebase_uid = :firebaseUid " +
+           "LEFT JOIN project_members pm ON pm.project_id = p.id AND pm.user_id = u.id " +
+           "WHERE p.id = :projectId", nativeQuery = true)
+    Optional<String> findRoleName(@Param("projectId") Long projectId, @Param("firebaseUid") String firebaseUid);
+
+    @Query("SELECT pm.project.id FROM ProjectMember pm " +
+           "WHERE pm.user.firebaseUid = :firebaseUid AND pm.project.id IN :projectIds")
+    Set<Long> findProjectIdsWithMember(@Param("firebaseUid") String firebaseUid,
+                                       @Param("projectIds") Collection<Long> projectIds);
 }
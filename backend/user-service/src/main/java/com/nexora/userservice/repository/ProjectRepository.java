@@ -1,13 +1,72 @@
 package com.nexora.userservice.repository;
 
+import com.nexora.userservice.dto.ProjectVersionRow;
+import com.nexora.userservice.dto.UserProjectView;
 import com.nexora.userservice.entity.Project;
 import com.nexora.userservice.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByOwnerOrderByCreatedAtDesc(User owner);
+
+    /**
+     * Owned and member projects of a user with their role, in one statement.
+     * Keyset ordered by (createdAt DESC, id DESC): pass the last row's key, or
+     * KeysetCursor.start() for the first page. Owned projects come from
+     * projects.owner_id, the rest from project_members.user_id (both indexed).
+     */
+    @Query(value = "SELECT * FROM (" +
+           "SELECT p.id AS \"id\", p.name AS \"name\", p.description AS \"description\", " +
+           "p.created_at AS \"createdAt\", p.updated_at AS \"updatedAt\", " +
+           "u.firebase_uid AS \"ownerFirebaseUid\", 'OWNER' AS \"role\" " +
+           "FROM users u JOIN projects p ON p.owner_id = u.id " +
+           "WHERE u.firebase_uid = :firebaseUid " +
+           "UNION ALL " +
+           "SELECT p.id, p.name, p.description, p.created_at, p.updated_at, o.firebase_uid, pm.role " +
+           "FROM users u " +
+           "JOIN project_members pm ON pm.user_id = u.id " +
+           "JOIN projects p ON p.id = pm.project_id " +
+           "JOIN users o ON o.id = p.owner_id " +
+           "WHERE u.firebase_uid = :firebaseUid AND p.owner_id <> u.id" +
+           ") up " +
+           "WHERE (up.\"createdAt\", up.\"id\") < (:createdAt, :id) " +
+           "ORDER BY up.\"createdAt\" DESC, up.\"id\" DESC " +
+           "LIMIT :limit", nativeQuery = true)
+    List<UserProjectView> findUserProjects(
+            @Param("firebaseUid") String firebaseUid,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            @Param("limit") int limit);
+
+    @Query("SELECT p.contentVersion FROM Project p WHERE p.id = :id")
+    Optional<Long> findContentVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.contentVersion = p.contentVersion + 1 WHERE p.id = :id")
+    int incrementContentVersion(@Param("id") Long id);
+
+    /**
+     * (id, contentVersion) of every project the user owns or belongs to, by id.
+     * Same two index paths as findUserProjects, without the wide columns.
+     */
+    @Query(value = "SELECT p.id AS \"id\", p.content_version AS \"contentVersion\" " +
+           "FROM users u JOIN projects p ON p.owner_id = u.id " +
+           "WHERE u.firebase_uid = :firebaseUid " +
+           "UNION ALL " +
+           "SELECT p.id, p.content_version " +
+           "FROM users u " +
+           "JOIN project_members pm ON pm.user_id = u.id " +
+           "JOIN projects p ON p.id = pm.project_id " +
+           "WHERE u.firebase_uid = :firebaseUid AND p.owner_id <> u.id " +
+           "ORDER BY 1", nativeQuery = true)
+    List<ProjectVersionRow> findUserProjectVersions(@Param("firebaseUid") String firebaseUid);
 }
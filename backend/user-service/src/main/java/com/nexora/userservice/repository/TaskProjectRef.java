@@ -0,0 +1,9 @@
+package com.nexora.userservice.repository;
+
+/**
+ * Interface projection: a task id with its project id, nothing else loaded
+ */
+public interface TaskProjectRef {
+    Long getId();
+    Long getProjectId();
+}
@@ -1,18 +1,47 @@
 package com.nexora.userservice.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.nexora.userservice.dto.TaskAssigneeRow;
+import com.nexora.userservice.config.TaskSearchSchema;
+import com.nexora.userservice.dto.TaskCardResponse;
+import com.nexora.userservice.dto.TaskSearchHit;
+import com.nexora.userservice.dto.TaskStatsRow;
 import com.nexora.userservice.entity.Project;
 import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.TaskStatus;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
     
+    String CARD_SELECT = "SELECT new com.nexora.userservice.dto.TaskCardResponse(" +
+           "t.id, t.project.id, t.title, t.description, t.status, " +
+           "t.createdBy, t.createdAt, t.updatedAt, t.assignedAt, t.version) FROM Task t ";
+    
+    // Ids of the projects a user owns or belongs to (native SQL, binds :firebaseUid)
+    String ACCESSIBLE_PROJECT_IDS = 
+           "SELECT p.id FROM users u JOIN projects p ON p.owner_id = u.id WHERE u.firebase_uid = :firebaseUid " +
+           "UNION " +
+           "SELECT pm.project_id FROM users u JOIN project_members pm ON pm.user_id = u.id " +
+           "WHERE u.firebase_uid = :firebaseUid";
+    
+    String ASSIGNEE_ROW_SELECT = "SELECT new com.nexora.userservice.dto.TaskAssigneeRow(" +
+           "t.id, a.firebaseUid, a.name, a.email, a.photoUrl) FROM Task t JOIN t.assignees a ";
+    
     // ========================================
     // EXISTING METHODS
     // ========================================
@@ -25,7 +54,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     /**
      * Find tasks by project and status
      */
-    List<Task> findByProjectAndStatus(Project project, String status);
+    List<Task> findByProjectAndStatus(Project project, TaskStatus status);
     
     // ========================================
     // ✅ FIXED: MULTI-ASSIGNEE QUERY METHODS
@@ -33,29 +62,26 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     
     /**
      * ✅ FIXED: Find all tasks assigned to a specific user
-     * Now checks BOTH assigneeUserId AND assigneesJson fields
+     * Joins task_assignees, so the lookup is an index seek on firebase_uid
      */
-    @Query("SELECT t FROM Task t WHERE " +
-           "t.assigneeUserId = :userId OR " +
-           "t.assigneesJson LIKE CONCAT('%\"firebaseUid\":\"', :userId, '\"%')")
+    @Query("SELECT t FROM Task t JOIN t.assignees a WHERE " +
+           "a.firebaseUid = :userId")
     List<Task> findByAssigneeUserId(@Param("userId") String userId);
     
     /**
      * ✅ FIXED: Find tasks assigned to user, ordered by creation date
      */
-    @Query("SELECT t FROM Task t WHERE " +
-           "(t.assigneeUserId = :userId OR " +
-           "t.assigneesJson LIKE CONCAT('%\"firebaseUid\":\"', :userId, '\"%')) " +
+    @Query("SELECT t FROM Task t JOIN t.assignees a WHERE " +
+           "a.firebaseUid = :userId " +
            "ORDER BY t.createdAt DESC")
     List<Task> findByAssigneeUserIdOrderByCreatedAtDesc(@Param("userId") String userId);
     
     /**
      * ✅ FIXED: Find tasks by project and assignee (using Project entity)
      */
-    @Query("SELECT t FROM Task t WHERE " +
+    @Query("SELECT t FROM Task t JOIN t.assignees a WHERE " +
            "t.project = :project AND " +
-           "(t.assigneeUserId = :assigneeUserId OR " +
-           "t.assigneesJson LIKE CONCAT('%\"firebaseUid\":\"', :assigneeUserId, '\"%'))")
+           "a.firebaseUid = :assigneeUserId")
     List<Task> findByProjectAndAssigneeUserId(
         @Param("project") Project project, 
         @Param("assigneeUserId") String assigneeUserId
@@ -64,10 +90,9 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     /**
      * ✅ FIXED: Find tasks by project ID and assignee
      */
-    @Query("SELECT t FROM Task t WHERE " +
+    @Query("SELECT t FROM Task t JOIN t.assignees a WHERE " +
            "t.project.id = :projectId AND " +
-           "(t.assigneeUserId = :assigneeUserId OR " +
-           "t.assigneesJson LIKE CONCAT('%\"firebaseUid\":\"', :assigneeUserId, '\"%'))")
+           "a.firebaseUid = :assigneeUserId")
     List<Task> findByProjectIdAndAssigneeUserId(
         @Param("projectId") Long projectId, 
         @Param("assigneeUserId") String assigneeUserId
@@ -76,13 +101,12 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     /**
      * ✅ FIXED: Find tasks by assignee and status
      */
-    @Query("SELECT t FROM Task t WHERE " +
-           "(t.assigneeUserId = :userId OR " +
-           "t.assigneesJson LIKE CONCAT('%\"firebaseUid\":\"', :userId, '\"%')) " +
+    @Query("SELECT t FROM Task t JOIN t.assignees a WHERE " +
+           "a.firebaseUid = :userId " +
            "AND t.status = :status")
     List<Task> findByAssigneeUserIdAndStatus(
         @Param("userId") String userId, 
-        @Param("status") String status
+        @Param("status") TaskStatus status
     );
     
     /**
@@ -90,8 +114,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT t FROM Task t WHERE " +
            "t.project = :project AND " +
-           "(t.assigneeUserId IS NULL AND " +
-           "(t.assigneesJson IS NULL OR t.assigneesJson = '[]')) " +
+           "t.assignees IS EMPTY " +
            "ORDER BY t.createdAt DESC")
     List<Task> findUnassignedTasksByProject(@Param("project") Project project);
     
@@ -100,8 +123,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT t FROM Task t WHERE " +
            "t.project.id = :projectId AND " +
-           "(t.assigneeUserId IS NULL AND " +
-           "(t.assigneesJson IS NULL OR t.assigneesJson = '[]')) " +
+           "t.assignees IS EMPTY " +
            "ORDER BY t.createdAt DESC")
     List<Task> findUnassignedTasksByProjectId(@Param("projectId") Long projectId);
     
@@ -110,12 +132,11 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT t FROM Task t WHERE " +
            "t.project = :project AND " +
-           "(t.assigneeUserId IS NULL AND " +
-           "(t.assigneesJson IS NULL OR t.assigneesJson = '[]')) " +
+           "t.assignees IS EMPTY " +
            "AND t.status = :status")
     List<Task> findUnassignedTasksByProjectAndStatus(
         @Param("project") Project project, 
-        @Param("status") String status
+        @Param("status") TaskStatus status
     );
     
     /**
@@ -123,18 +144,16 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT t FROM Task t WHERE " +
            "t.project = :project AND " +
-           "(t.assigneeUserId IS NOT NULL OR " +
-           "(t.assigneesJson IS NOT NULL AND t.assigneesJson != '[]')) " +
+           "t.assignees IS NOT EMPTY " +
            "ORDER BY t.createdAt DESC")
     List<Task> findAssignedTasksByProject(@Param("project") Project project);
     
     /**
      * ✅ FIXED: Count assigned tasks
      */
-    @Query("SELECT COUNT(t) FROM Task t WHERE " +
+    @Query("SELECT COUNT(t) FROM Task t JOIN t.assignees a WHERE " +
            "t.project.id = :projectId AND " +
-           "(t.assigneeUserId = :userId OR " +
-           "t.assigneesJson LIKE CONCAT('%\"firebaseUid\":\"', :userId, '\"%'))")
+           "a.firebaseUid = :userId")
     Long countAssignedTasks(
         @Param("projectId") Long projectId, 
         @Param("userId") String userId
@@ -143,37 +162,34 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     /**
      * ✅ FIXED: Count assigned tasks by status
      */
-    @Query("SELECT COUNT(t) FROM Task t WHERE " +
-           "(t.assigneeUserId = :userId OR " +
-           "t.assigneesJson LIKE CONCAT('%\"firebaseUid\":\"', :userId, '\"%')) " +
+    @Query("SELECT COUNT(t) FROM Task t JOIN t.assignees a WHERE " +
+           "a.firebaseUid = :userId " +
            "AND t.status = :status")
     Long countAssignedTasksByStatus(
         @Param("userId") String userId, 
-        @Param("status") String status
+        @Param("status") TaskStatus status
     );
     
     /**
      * ✅ FIXED: Count assigned tasks by status in a specific project
      */
-    @Query("SELECT COUNT(t) FROM Task t WHERE " +
+    @Query("SELECT COUNT(t) FROM Task t JOIN t.assignees a WHERE " +
            "t.project.id = :projectId AND " +
-           "(t.assigneeUserId = :userId OR " +
-           "t.assigneesJson LIKE CONCAT('%\"firebaseUid\":\"', :userId, '\"%')) " +
+           "a.firebaseUid = :userId " +
            "AND t.status = :status")
     Long countAssignedTasksByProjectAndStatus(
         @Param("projectId") Long projectId, 
         @Param("userId") String userId, 
-        @Param("status") String status
+        @Param("status") TaskStatus status
     );
     
     /**
      * ✅ FIXED: Check if user has assigned tasks
      */
     @Query("SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END " +
-           "FROM Task t WHERE " +
+           "FROM Task t JOIN t.assignees a WHERE " +
            "t.project.id = :projectId AND " +
-           "(t.assigneeUserId = :userId OR " +
-           "t.assigneesJson LIKE CONCAT('%\"firebaseUid\":\"', :userId, '\"%'))")
+           "a.firebaseUid = :userId")
     boolean hasAssignedTasks(
         @Param("projectId") Long projectId, 
         @Param("userId") String userId
@@ -189,8 +205,332 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT t FROM Task t WHERE " +
            "t.project = :project AND " +
-           "(t.assigneeUserId IS NOT NULL OR " +
-           "(t.assigneesJson IS NOT NULL AND t.assigneesJson != '[]')) " +
+           "t.assignees IS NOT EMPTY " +
            "ORDER BY t.assignedAt DESC")
     List<Task> findByProjectOrderByAssignedAtDesc(@Param("project") Project project);
+    
+    // ========================================
+    // KEYSET PAGINATION (createdAt DESC, id DESC)
+    // ========================================
+    
+    /**
+     * First page of a project's tasks; size comes from the Pageable
+     */
+    @Query("SELECT t FROM Task t WHERE " +
+           "t.project.id = :projectId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findProjectTasksFirstPage(
+        @Param("projectId") Long projectId, 
+        Pageable pageable
+    );
+    
+    /**
+     * Next page of a project's tasks, strictly after the (createdAt, id) cursor
+     */
+    @Query("SELECT t FROM Task t WHERE " +
+           "t.project.id = :projectId AND " +
+           "(t.createdAt, t.id) < (:createdAt, :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findProjectTasksAfter(
+        @Param("projectId") Long projectId, 
+        @Param("createdAt") LocalDateTime createdAt, 
+        @Param("id") Long id, 
+        Pageable pageable
+    );
+    
+    /**
+     * First page of tasks assigned to a user across all projects. Ordered by
+     * task_assignees.task_created_at (a trigger-maintained copy of
+     * tasks.created_at, see AssignedTaskOrderSchema), so the page is a seek
+     * on idx_task_assignees_uid_created and only its rows join tasks.
+     */
+    @Query(value = "SELECT t.* FROM task_assignees a JOIN tasks t ON t.id = a.task_id " +
+           "WHERE a.firebase_uid = :userId " +
+           "ORDER BY a.task_created_at DESC, a.task_id DESC", nativeQuery = true)
+    List<Task> findAssignedTasksFirstPage(
+        @Param("userId") String userId, 
+        Pageable pageable
+    );
+    
+    /**
+     * Next page of tasks assigned to a user, strictly after the cursor;
+     * the same index seek, so the cost does not grow with depth
+     */
+    @Query(value = "SELECT t.* FROM task_assignees a JOIN tasks t ON t.id = a.task_id " +
+           "WHERE a.firebase_uid = :userId AND " +
+           "(a.task_created_at, a.task_id) < (:createdAt, :id) " +
+           "ORDER BY a.task_created_at DESC, a.task_id DESC", nativeQuery = true)
+    List<Task> findAssignedTasksAfter(
+        @Param("userId") String userId, 
+        @Param("createdAt") LocalDateTime createdAt, 
+        @Param("id") Long id, 
+        Pageable pageable
+    );
+    
+    // ========================================
+    // BOARD CARD PROJECTIONS (read-only, no entities)
+    // ========================================
+    
+    @Query(CARD_SELECT +
+           "WHERE t.project.id = :projectId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskCardResponse> findCardsByProjectId(@Param("projectId") Long projectId);
+    
+    @Query(CARD_SELECT +
+           "WHERE t.project.id = :projectId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskCardResponse> findCardsByProjectIdFirstPage(
+        @Param("projectId") Long projectId, 
+        Pageable pageable
+    );
+    
+    @Query(CARD_SELECT +
+           "WHERE t.project.id = :projectId AND " +
+           "(t.createdAt, t.id) < (:createdAt, :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskCardResponse> findCardsByProjectIdAfter(
+        @Param("projectId") Long projectId, 
+        @Param("createdAt") LocalDateTime createdAt, 
+        @Param("id") Long id, 
+        Pageable pageable
+    );
+    
+    @Query(CARD_SELECT +
+           "JOIN t.assignees me WHERE me.firebaseUid = :userId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskCardResponse> findCardsByAssignee(@Param("userId") String userId);
+    
+    @Query(ASSIGNEE_ROW_SELECT +
+           "WHERE t.project.id = :projectId " +
+           "ORDER BY t.id, INDEX(a)")
+    List<TaskAssigneeRow> findAssigneeRowsByProjectId(@Param("projectId") Long projectId);
+    
+    @Query(ASSIGNEE_ROW_SELECT +
+           "WHERE t.id IN :taskIds " +
+           "ORDER BY t.id, INDEX(a)")
+    List<TaskAssigneeRow> findAssigneeRowsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+    
+    @Query(ASSIGNEE_ROW_SELECT +
+           "WHERE t.id IN (SELECT t2.id FROM Task t2 JOIN t2.assignees me WHERE me.firebaseUid = :userId) " +
+           "ORDER BY t.id, INDEX(a)")
+    List<TaskAssigneeRow> findAssigneeRowsOfTasksAssignedTo(@Param("userId") String userId);
+    
+    // ========================================
+    // OPEN TASKS (partial indexes, see TaskStatusSchema)
+    // ========================================
+    
+    // Each query repeats the index predicate literally (status <> DONE's code,
+    // task_open) so the planner can prove it and use the partial index
+    
+    @Query(CARD_SELECT +
+           "WHERE t.project.id = :projectId AND t.status <> com.nexora.userservice.entity.TaskStatus.DONE " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskCardResponse> findOpenCardsByProjectId(@Param("projectId") Long projectId);
+    
+    @Query(ASSIGNEE_ROW_SELECT +
+           "WHERE t.project.id = :projectId AND t.status <> com.nexora.userservice.entity.TaskStatus.DONE " +
+           "ORDER BY t.id, INDEX(a)")
+    List<TaskAssigneeRow> findAssigneeRowsOfOpenTasksByProjectId(@Param("projectId") Long projectId);
+    
+    /**
+     * Ids of the open tasks assigned to a user; an index-only scan of
+     * idx_task_assignees_open, which holds no DONE tasks
+     */
+    @Query(value = "SELECT a.task_id FROM task_assignees a " +
+           "WHERE a.firebase_uid = :userId AND a.task_open", nativeQuery = true)
+    List<Long> findOpenTaskIdsByAssignee(@Param("userId") String userId);
+    
+    @Query(CARD_SELECT +
+           "WHERE t.id IN :taskIds " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskCardResponse> findCardsByIdIn(@Param("taskIds") Collection<Long> taskIds);
+    
+    /**
+     * Tasks assigned to a user with one open status (pass its code)
+     */
+    @Query(value = "SELECT t.* FROM task_assignees a JOIN tasks t ON t.id = a.task_id " +
+           "WHERE a.firebase_uid = :userId AND a.task_open " +
+           "AND t.status = :status", nativeQuery = true)
+    List<Task> findOpenByAssigneeAndStatus(
+        @Param("userId") String userId, 
+        @Param("status") short status
+    );
+    
+    @Query(value = "SELECT COUNT(*) FROM task_assignees a JOIN tasks t ON t.id = a.task_id " +
+           "WHERE a.firebase_uid = :userId AND a.task_open " +
+           "AND t.status = :status", nativeQuery = true)
+    Long countOpenAssignedTasksByStatus(
+        @Param("userId") String userId, 
+        @Param("status") short status
+    );
+    
+    // ========================================
+    // FULL-TEXT SEARCH (tasks.search_vector, GIN)
+    // ========================================
+    
+    /**
+     * Tasks matching a tsquery in the projects the user owns or belongs to,
+     * optionally one of them. Keyset ordered by (rank DESC, id DESC): pass the
+     * last hit's key, or SearchCursor.start() for the first page. The GIN
+     * index finds the matches; headlines are only built for the page.
+     */
+    @Query(value = "SELECT h.id AS \"id\", h.project_id AS \"projectId\", p.name AS \"projectName\", " +
+           "h.title AS \"title\", h.status AS \"status\", h.rank AS \"rank\", " +
+           "ts_headline('" + TaskSearchSchema.TEXT_SEARCH_CONFIG + "', " +
+           "replace(replace(replace(h.title, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), h.query, " +
+           "'HighlightAll=true, StartSel=<mark>, StopSel=</mark>') AS \"titleHighlight\", " +
+           "ts_headline('" + TaskSearchSchema.TEXT_SEARCH_CONFIG + "', " +
+           "replace(replace(replace(coalesce(h.description, ''), '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), h.query, " +
+           "'MaxFragments=2, MaxWords=20, MinWords=5, FragmentDelimiter=\" ... \", " +
+           "StartSel=<mark>, StopSel=</mark>') AS \"snippet\" " +
+           "FROM (" +
+           "SELECT t.id, t.project_id, t.title, t.description, " + TaskStatus.SQL_NAME + " AS status, q.query, " +
+           "ts_rank_cd(t.search_vector, q.query) AS rank " +
+           "FROM tasks t CROSS JOIN to_tsquery('" + TaskSearchSchema.TEXT_SEARCH_CONFIG + "', :query) AS q(query) " +
+           "WHERE t.search_vector @@ q.query " +
+           "AND t.project_id IN (" + ACCESSIBLE_PROJECT_IDS + ") " +
+           "AND (CAST(:projectId AS bigint) IS NULL OR t.project_id = :projectId) " +
+           "AND (ts_rank_cd(t.search_vector, q.query), t.id) < (:rank, :id) " +
+           "ORDER BY rank DESC, t.id DESC " +
+           "LIMIT :limit" +
+           ") h JOIN projects p ON p.id = h.project_id " +
+           "ORDER BY h.rank DESC, h.id DESC", nativeQuery = true)
+    List<TaskSearchHit> searchTasks(
+        @Param("query") String query, 
+        @Param("firebaseUid") String firebaseUid, 
+        @Param("projectId") Long projectId, 
+        @Param("rank") float rank, 
+        @Param("id") Long id, 
+        @Param("limit") int limit
+    );
+    
+    // ========================================
+    // STREAMING EXPORT (cursor-backed, same order on both sides)
+    // ========================================
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<Task> streamByProjectId(@Param("projectId") Long projectId);
+    
+    // Carries t.createdAt so the merge can tell rows of a later task from orphans
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.nexora.userservice.dto.TaskAssigneeRow(" +
+           "t.id, t.createdAt, a.firebaseUid, a.name, a.email, a.photoUrl) FROM Task t JOIN t.assignees a " +
+           "WHERE t.project.id = :projectId " +
+           "ORDER BY t.createdAt DESC, t.id DESC, INDEX(a)")
+    Stream<TaskAssigneeRow> streamAssigneeRowsByProjectId(@Param("projectId") Long projectId);
+    
+    // ========================================
+    // SET-BASED BULK ASSIGNMENT
+    // ========================================
+    
+    @Query("SELECT t.id AS id, t.project.id AS projectId FROM Task t WHERE t.id IN :taskIds")
+    List<TaskProjectRef> findProjectRefsByIdIn(@Param("taskIds") Collection<Long> taskIds);
+    
+    @Modifying
+    @Query(value = "DELETE FROM task_assignees WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteAssigneeRows(@Param("taskIds") Collection<Long> taskIds);
+    
+    /**
+     * Makes the given user the only assignee (position 0) of every listed task
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_assignees (task_id, position, firebase_uid, name, email, photo_url) " +
+           "SELECT t.id, 0, :firebaseUid, :name, :email, :photoUrl FROM tasks t WHERE t.id IN (:taskIds)",
+           nativeQuery = true)
+    int insertSoleAssigneeRows(
+        @Param("taskIds") Collection<Long> taskIds, 
+        @Param("firebaseUid") String firebaseUid, 
+        @Param("name") String name, 
+        @Param("email") String email, 
+        @Param("photoUrl") String photoUrl
+    );
+    
+    /**
+     * Writes the denormalized assignee columns for many tasks in one UPDATE.
+     * Pass nulls (and "[]") to clear them.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET " +
+           "t.assigneeUserId = :firebaseUid, t.assigneeName = :name, " +
+           "t.assigneeEmail = :email, t.assigneePhoto = :photoUrl, " +
+           "t.assigneesJson = :assigneesJson, t.assignedAt = :assignedAt, " +
+           "t.assignedBy = :assignedBy, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+           "WHERE t.id IN :taskIds")
+    int updateAssigneeColumns(
+        @Param("taskIds") Collection<Long> taskIds, 
+        @Param("firebaseUid") String firebaseUid, 
+        @Param("name") String name, 
+        @Param("email") String email, 
+        @Param("photoUrl") String photoUrl, 
+        @Param("assigneesJson") String assigneesJson, 
+        @Param("assignedAt") LocalDateTime assignedAt, 
+        @Param("assignedBy") String assignedBy, 
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+    
+    // ========================================
+    // COMPARE-AND-SET STATUS TRANSITION
+    // ========================================
+    
+    /**
+     * Sets the status only if the task still has the expected status and
+     * version and the user can access its project; increments the task's
+     * version and the project's content_version in the same statement and
+     * returns the new (id, projectId, status, version, updatedAt), or no row
+     * when any condition fails. Statuses are TaskStatus codes; the transition
+     * table is checked by the caller.
+     * Spring Data can't declare it: @Modifying queries return only a count,
+     * and without it a Task managed in the same persistence context would go
+     * stale. TaskService.transitionStatus runs it through the EntityManager
+     * and evicts that Task itself.
+     */
+    String TRANSITION_STATUS = "WITH changed AS (" +
+           "UPDATE tasks SET status = :toStatus, version = version + 1, updated_at = :updatedAt " +
+           "WHERE id = :id AND version = :version AND status = :fromStatus " +
+           "AND project_id IN (" + ACCESSIBLE_PROJECT_IDS + ") " +
+           "RETURNING id, project_id, status, version, updated_at" +
+           "), bumped AS (" +
+           "UPDATE projects SET content_version = content_version + 1 " +
+           "WHERE id IN (SELECT project_id FROM changed)" +
+           ") " +
+           "SELECT id, project_id, " + TaskStatus.SQL_NAME + " AS status, version, updated_at FROM changed";
+    
+    // ========================================
+    // PROJECT STATISTICS
+    // ========================================
+    
+    /**
+     * Every count the dashboard needs in one GROUP BY over (status, assignee).
+     * Each task contributes exactly one row with position 0 (or no assignee),
+     * which is what the tasks column sums, so multi-assigned tasks are not
+     * double counted in status totals.
+     */
+    @Query("SELECT new com.nexora.userservice.dto.TaskStatsRow(" +
+           "t.status, a.firebaseUid, COUNT(t), " +
+           "SUM(CASE WHEN a.firebaseUid IS NULL OR INDEX(a) = 0 THEN 1L ELSE 0L END)) " +
+           "FROM Task t LEFT JOIN t.assignees a " +
+           "WHERE t.project.id = :projectId " +
+           "GROUP BY t.status, a.firebaseUid")
+    List<TaskStatsRow> aggregateProjectStats(@Param("projectId") Long projectId);
+    
+    // ========================================
+    // LEGACY ASSIGNEE MIGRATION
+    // ========================================
+    
+    /**
+     * Tasks whose assignees still live only in the legacy columns
+     * (assigneesJson / assigneeUserId) and have no task_assignees rows yet,
+     * by id after afterId
+     */
+    @Query("SELECT t FROM Task t WHERE " +
+           "t.id > :afterId AND " +
+           "t.assignees IS EMPTY AND " +
+           "(t.assigneeUserId IS NOT NULL OR " +
+           "(t.assigneesJson IS NOT NULL AND t.assigneesJson != '[]')) " +
+           "ORDER BY t.id")
+    List<Task> findWithLegacyAssignees(@Param("afterId") Long afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.nexora.userservice.repository;
 
 import com.nexora.userservice.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +14,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByFirebaseUid(String firebaseUid);
     Optional<User> findByEmail(String email);
     boolean existsByFirebaseUid(String firebaseUid);
+
+    // Owner plus members of a project
+    @Query("SELECT u FROM User u WHERE " +
+           "u.id IN (SELECT pm.user.id FROM ProjectMember pm WHERE pm.project.id = :projectId) " +
+           "OR u.id = (SELECT p.owner.id FROM Project p WHERE p.id = :projectId)")
+    List<User> findProjectUsers(@Param("projectId") Long projectId);
 }
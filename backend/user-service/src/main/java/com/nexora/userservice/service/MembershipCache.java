@@ -0,0 +1,99 @@
+package com.nexora.userservice.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexora.userservice.entity.ProjectMember;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded in-process cache of (projectId, firebaseUid) -> role used by the
+ * authorization checks. An empty Optional is a cached "no access" answer.
+ *
+ * Entries are evicted by ProjectMemberService/ProjectService whenever
+ * membership changes; eviction runs again after commit so a concurrent
+ * read cannot re-cache the pre-commit value.
+ *
+ * Misses are loaded on the calling thread outside the cache's internal
+ * locks: a synchronous Caffeine loader runs inside ConcurrentHashMap.compute,
+ * whose monitor would pin a virtual thread for the whole database query.
+ * Concurrent misses on one key still share a single load.
+ *
+ * Size, hits, misses and evictions are published as the cache.* meters
+ * tagged cache=membership.
+ */
+@Component
+public class MembershipCache {
+
+    private final AsyncCache<Key, Optional<ProjectMember.MemberRole>> cache;
+
+    public MembershipCache(
+            @Value("${membership.cache.max-size:10000}") long maxSize,
+            @Value("${membership.cache.ttl:5m}") Duration ttl,
+            MeterRegistry registry) {
+        this.cache = CaffeineCacheMetrics.monitor(registry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<Key, Optional<ProjectMember.MemberRole>>buildAsync(), "membership");
+    }
+
+    public Optional<ProjectMember.MemberRole> get(
+            Long projectId, String firebaseUid,
+            BiFunction<Long, String, Optional<ProjectMember.MemberRole>> loader) {
+        CompletableFuture<Optional<ProjectMember.MemberRole>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<ProjectMember.MemberRole>> entry =
+                cache.get(new Key(projectId, firebaseUid), (key, executor) -> load);
+        if (entry == load) {
+            try {
+                load.complete(loader.apply(projectId, firebaseUid));
+            } catch (RuntimeException e) {
+                // Failed futures are dropped by the cache; waiters see the same error
+                load.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public void evict(Long projectId, String firebaseUid) {
+        Key key = new Key(projectId, firebaseUid);
+        cache.synchronous().invalidate(key);
+        afterCommit(() -> cache.synchronous().invalidate(key));
+    }
+
+    public void evictProject(Long projectId) {
+        Runnable evict = () -> cache.synchronous().asMap().keySet().removeIf(key -> projectId.equals(key.projectId));
+        evict.run();
+        afterCommit(evict);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private record Key(Long projectId, String firebaseUid) {}
+}
@@ -0,0 +1,259 @@
+package com.nexora.userservice.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.nexora.userservice.dto.ProjectAccessEvent;
+import com.nexora.userservice.dto.TaskEvent;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Fans task change events out to the SSE subscribers of each project board.
+ *
+ * Events arrive after commit (TransactionalEventListener) and are serialized
+ * once. Every subscriber has its own bounded queue drained by a small sender
+ * pool, so a slow client never blocks the committing thread or other
+ * clients; when its queue overflows the backlog is dropped and the client
+ * gets a single "reload" instead. Heartbeat comments keep proxies from
+ * closing idle streams and detect dead connections.
+ *
+ * Every stream remembers the member it was opened for, so removing that
+ * member (or deleting the project) closes it instead of leaving it to
+ * receive events until it times out.
+ *
+ * With spring.threads.virtual.enabled each drain gets its own virtual
+ * thread instead of a slot in the fixed pool, so clients stuck in blocking
+ * writes no longer delay the others.
+ */
+@Component
+public class ProjectEventBroadcaster implements SmartLifecycle {
+
+    private static final Outgoing HEARTBEAT = new Outgoing(0, null, null);
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+    private final int queueCapacity;
+    private final Executor sender;
+    private final ScheduledExecutorService heartbeat;
+    private volatile boolean running;
+
+    public ProjectEventBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${project.events.timeout:30m}") Duration emitterTimeout,
+            @Value("${project.events.queue-capacity:256}") int queueCapacity,
+            @Value("${project.events.heartbeat:15s}") Duration heartbeatInterval,
+            @Value("${project.events.sender-threads:4}") int senderThreads,
+            Environment environment) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeout.toMillis();
+        this.queueCapacity = queueCapacity;
+        this.sender = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("sse-sender-")
+                : Executors.newFixedThreadPool(senderThreads, daemon("sse-sender"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("sse-heartbeat"));
+        long period = heartbeatInterval.toMillis();
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(Long projectId, String firebaseUid) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(projectId, firebaseUid, emitter);
+        subscribers.compute(projectId, (id, set) -> {
+            Set<Subscriber> projectSubscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+            projectSubscribers.add(subscriber);
+            return projectSubscribers;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.getProjectId());
+        if (projectSubscribers == null || projectSubscribers.isEmpty()) {
+            return;
+        }
+        Outgoing outgoing = new Outgoing(eventIds.incrementAndGet(), event.getType(),
+                objectMapper.writeValueAsString(event));
+        for (Subscriber subscriber : projectSubscribers) {
+            subscriber.offer(outgoing);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccessRevoked(ProjectAccessEvent event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.projectId());
+        if (projectSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : projectSubscribers) {
+            if (event.revokes(subscriber.firebaseUid)) {
+                subscriber.close();
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void sendHeartbeats() {
+        for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : projectSubscribers) {
+                subscriber.heartbeat();
+            }
+        }
+    }
+
+    // Stopped before the web server's graceful shutdown, which would otherwise
+    // wait on every open stream until its timeout
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        heartbeat.shutdownNow();
+        if (sender instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+        subscribers.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+        subscribers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Outgoing(long id, String name, String json) {}
+
+    private final class Subscriber {
+        private final Long projectId;
+        private final String firebaseUid;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Outgoing> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+
+        Subscriber(Long projectId, String firebaseUid, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.firebaseUid = firebaseUid;
+            this.emitter = emitter;
+        }
+
+        void offer(Outgoing outgoing) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(outgoing)) {
+                // Too far behind to catch up event by event
+                overflowed = true;
+                queue.clear();
+            }
+            scheduleDrain();
+        }
+
+        // Only when idle; a busy stream needs no keep-alive
+        void heartbeat() {
+            if (!closed && queue.isEmpty() && queue.offer(HEARTBEAT)) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    if (overflowed) {
+                        overflowed = false;
+                        emitter.send(SseEmitter.event().name(TaskEvent.RELOAD)
+                                .data(objectMapper.writeValueAsString(TaskEvent.reload(projectId))));
+                        continue;
+                    }
+                    Outgoing next = queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (next == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event().id(Long.toString(next.id())).name(next.name()).data(next.json()));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client disconnected or the emitter already completed
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            // An event may have arrived between the last poll and releasing the flag
+            if (!closed && (!queue.isEmpty() || overflowed)) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            closed = true;
+            queue.clear();
+            subscribers.computeIfPresent(projectId, (id, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.nexora.userservice.service;
 
+import com.nexora.userservice.dto.ProjectAccessEvent;
 import com.nexora.userservice.entity.Project;
 import com.nexora.userservice.entity.ProjectMember;
 import com.nexora.userservice.entity.User;
@@ -7,6 +8,7 @@ import com.nexora.userservice.repository.ProjectMemberRepository;
 import com.nexora.userservice.repository.ProjectRepository;
 import com.nexora.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,17 +22,17 @@ public class ProjectMemberService {
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final MembershipCache membershipCache;
+    private final ProjectVersions projectVersions;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProjectMember addMember(Long projectId, String userEmail, ProjectMember.MemberRole role, String requestorFirebaseUid) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
 
-        User requestor = userRepository.findByFirebaseUid(requestorFirebaseUid)
-                .orElseThrow(() -> new RuntimeException("Requestor not found"));
-
         // Check if requestor is owner or admin
-        if (!isOwner(project, requestor) && !isAdmin(project, requestor)) {
+        if (!canManageMembers(projectId, requestorFirebaseUid)) {
             throw new RuntimeException("Only owners and admins can add members");
         }
 
@@ -47,7 +49,10 @@ public class ProjectMemberService {
         member.setUser(userToAdd);
         member.setRole(role);
 
-        return projectMemberRepository.save(member);
+        ProjectMember saved = projectMemberRepository.save(member);
+        membershipCache.evict(projectId, userToAdd.getFirebaseUid());
+        projectVersions.bump(projectId);
+        return saved;
     }
 
     @Transactional
@@ -55,14 +60,11 @@ public class ProjectMemberService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
 
-        User requestor = userRepository.findByFirebaseUid(requestorFirebaseUid)
-                .orElseThrow(() -> new RuntimeException("Requestor not found"));
-
         User userToRemove = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         // Check if requestor is owner or admin
-        if (!isOwner(project, requestor) && !isAdmin(project, requestor)) {
+        if (!canManageMembers(projectId, requestorFirebaseUid)) {
             throw new RuntimeException("Only owners and admins can remove members");
         }
 
@@ -72,6 +74,9 @@ public class ProjectMemberService {
         }
 
         projectMemberRepository.deleteByProjectAndUser(project, userToRemove);
+        membershipCache.evict(projectId, userToRemove.getFirebaseUid());
+        projectVersions.bump(projectId);
+        eventPublisher.publishEvent(ProjectAccessEvent.memberRemoved(projectId, userToRemove.getFirebaseUid()));
     }
 
     public List<ProjectMember> getProjectMembers(Long projectId) {
@@ -82,44 +87,38 @@ public class ProjectMemberService {
     }
 
     public boolean hasAccess(Long projectId, String firebaseUid) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-
-        User user = userRepository.findByFirebaseUid(firebaseUid)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Owner always has access
-        if (project.getOwner().getId().equals(user.getId())) {
-            return true;
-        }
-
-        // Check if member
-        return projectMemberRepository.existsByProjectAndUser(project, user);
+        return findRole(projectId, firebaseUid).isPresent();
     }
 
     public ProjectMember.MemberRole getUserRole(Long projectId, String firebaseUid) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
+        return findRole(projectId, firebaseUid).orElse(null);
+    }
 
-        User user = userRepository.findByFirebaseUid(firebaseUid)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    /**
+     * Caller's role in the project (OWNER for the project owner), or empty when
+     * the project, the user or the membership does not exist. Served from
+     * MembershipCache; misses fall through to the database.
+     */
+    public Optional<ProjectMember.MemberRole> findRole(Long projectId, String firebaseUid) {
+        return membershipCache.get(projectId, firebaseUid, this::loadRole);
+    }
 
-        // Check if owner
-        if (project.getOwner().getId().equals(user.getId())) {
-            return ProjectMember.MemberRole.OWNER;
-        }
+    public boolean isAdmin(Long projectId, String firebaseUid) {
+        return findRole(projectId, firebaseUid).orElse(null) == ProjectMember.MemberRole.ADMIN;
+    }
 
-        // Get member role
-        Optional<ProjectMember> member = projectMemberRepository.findByProjectAndUser(project, user);
-        return member.map(ProjectMember::getRole).orElse(null);
+    // Cache miss: one statement answers owner/member/none
+    private Optional<ProjectMember.MemberRole> loadRole(Long projectId, String firebaseUid) {
+        return projectMemberRepository.findRoleName(projectId, firebaseUid)
+                .map(ProjectMember.MemberRole::valueOf);
     }
 
-    private boolean isOwner(Project project, User user) {
-        return project.getOwner().getId().equals(user.getId());
+    private boolean canManageMembers(Long projectId, String firebaseUid) {
+        ProjectMember.MemberRole role = findRole(projectId, firebaseUid).orElse(null);
+        return role == ProjectMember.MemberRole.OWNER || role == ProjectMember.MemberRole.ADMIN;
     }
 
-    private boolean isAdmin(Project project, User user) {
-        Optional<ProjectMember> member = projectMemberRepository.findByProjectAndUser(project, user);
-        return member.isPresent() && member.get().getRole() == ProjectMember.MemberRole.ADMIN;
+    private boolean isOwner(Project project, User user) {
+        return project.getOwner().getId().equals(user.getId());
     }
 }
@@ -1,10 +1,17 @@
 package com.nexora.userservice.service;
 
+import com.nexora.userservice.dto.CursorPageResponse;
+import com.nexora.userservice.dto.KeysetCursor;
+import com.nexora.userservice.dto.ProjectAccessEvent;
+import com.nexora.userservice.dto.UserProjectView;
 import com.nexora.userservice.entity.Project;
+import com.nexora.userservice.entity.ProjectMember;
 import com.nexora.userservice.entity.User;
+import com.nexora.userservice.repository.ProjectMemberRepository;
 import com.nexora.userservice.repository.ProjectRepository;
 import com.nexora.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,8 +22,16 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProjectService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
+    private final MembershipCache membershipCache;
+    private final ProjectVersions projectVersions;
+    private final TaskListCache taskListCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Project createProject(String name, String description, String firebaseUid) {
@@ -28,7 +43,19 @@ public class ProjectService {
         project.setDescription(description);
         project.setOwner(owner);
 
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+
+        // The creator is an OWNER member; same transaction, so the member list
+        // is never seen empty under the project's first version
+        ProjectMember ownerMember = new ProjectMember();
+        ownerMember.setProject(saved);
+        ownerMember.setUser(owner);
+        ownerMember.setRole(ProjectMember.MemberRole.OWNER);
+        projectMemberRepository.save(ownerMember);
+
+        // Drop any "no access" answers cached for this id before it existed
+        membershipCache.evictProject(saved.getId());
+        return saved;
     }
 
     public List<Project> getUserProjects(String firebaseUid) {
@@ -38,6 +65,32 @@ public class ProjectService {
         return projectRepository.findByOwnerOrderByCreatedAtDesc(owner);
     }
 
+    /**
+     * Owned and member projects with the caller's role, newest first, in one query
+     */
+    @Transactional(readOnly = true)
+    public List<UserProjectView> getUserProjectViews(String firebaseUid) {
+        KeysetCursor start = KeysetCursor.start();
+        return projectRepository.findUserProjects(
+                firebaseUid, start.getCreatedAt(), start.getId(), Integer.MAX_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserProjectView> getUserProjectsPage(String firebaseUid, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        KeysetCursor after = (cursor == null || cursor.isEmpty())
+                ? KeysetCursor.start()
+                : KeysetCursor.decode(cursor);
+
+        // One extra row tells whether another page follows
+        List<UserProjectView> rows = projectRepository.findUserProjects(
+                firebaseUid, after.getCreatedAt(), after.getId(), size + 1);
+        boolean hasMore = rows.size() > size;
+        List<UserProjectView> items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? KeysetCursor.after(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(items, nextCursor, hasMore);
+    }
+
     public Optional<Project> getProjectById(Long id) {
         return projectRepository.findById(id);
     }
@@ -55,6 +108,9 @@ public class ProjectService {
         }
 
         projectRepository.delete(project);
+        membershipCache.evictProject(id);
+        taskListCache.evictProject(id);
+        eventPublisher.publishEvent(ProjectAccessEvent.projectDeleted(id));
     }
 
     @Transactional
@@ -72,6 +128,8 @@ public class ProjectService {
         project.setName(name);
         project.setDescription(description);
 
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        projectVersions.bump(id);
+        return saved;
     }
 }
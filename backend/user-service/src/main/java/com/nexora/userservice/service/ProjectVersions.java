@@ -0,0 +1,92 @@
+package com.nexora.userservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Component;
+
+import com.nexora.userservice.dto.ProjectVersionRow;
+import com.nexora.userservice.repository.ProjectRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-project content version (projects.content_version) and the ETags of
+ * the list endpoints derived from it.
+ *
+ * Every mutation of a project's tasks, members or details bumps the counter
+ * inside its own transaction, so a version is never visible before the data
+ * it describes. Readers take the version before loading the list: a write
+ * in between yields newer data under an older tag, which costs the client
+ * one extra download but never a stale 304.
+ *
+ * Bumping also drops the project's cached task lists after commit.
+ *
+ * The ETags are weak: they identify the content, not the bytes (Tomcat does
+ * not gzip a response that carries a strong ETag).
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectVersions {
+
+    private final ProjectRepository projectRepository;
+    private final TaskListCache taskListCache;
+
+    // Must run inside the mutating transaction
+    public void bump(Long projectId) {
+        projectRepository.incrementContentVersion(projectId);
+        taskListCache.evictProject(projectId);
+    }
+
+    // For statements that increment content_version themselves
+    public void bumped(Long projectId) {
+        taskListCache.evictProject(projectId);
+    }
+
+    // Ascending id order, so concurrent multi-project writes lock rows alike
+    public void bumpAll(Collection<Long> projectIds) {
+        for (Long projectId : new TreeSet<>(projectIds)) {
+            projectRepository.incrementContentVersion(projectId);
+            taskListCache.evictProject(projectId);
+        }
+    }
+
+    /**
+     * ETag of a per-project list (resource is e.g. "tasks" or "members"),
+     * or empty when the project does not exist.
+     */
+    public Optional<String> eTag(String resource, Long projectId) {
+        return projectRepository.findContentVersion(projectId)
+                .map(version -> weak(resource + "-" + projectId + "-" + version));
+    }
+
+    /**
+     * ETag of a user's project list: a digest of the (id, version) pairs of
+     * every project they own or belong to, so joining, leaving, deleting or
+     * editing any of them changes it.
+     */
+    public String userProjectsETag(String firebaseUid) {
+        MessageDigest digest = sha256();
+        for (ProjectVersionRow row : projectRepository.findUserProjectVersions(firebaseUid)) {
+            digest.update((row.getId() + ":" + row.getContentVersion() + ";").getBytes(StandardCharsets.US_ASCII));
+        }
+        return weak("projects-" + HexFormat.of().formatHex(digest.digest(), 0, 16));
+    }
+
+    private static String weak(String tag) {
+        return "W/\"" + tag + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.nexora.userservice.service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-caller admission control: one token bucket per (caller, endpoint
+ * class), with separate rate and burst budgets for reads, writes and bulk
+ * operations, so a script hammering one endpoint class is throttled without
+ * touching anyone else or the caller's other traffic. Every request is also
+ * charged to its client address, whose buckets allow addressMultiplier times
+ * the caller budget: the ceiling for clients that rotate the identity they
+ * claim, and it is checked first so those rotations create no caller buckets.
+ *
+ * Each bucket is kept in its GCRA form, a single "theoretical arrival time"
+ * updated by compare-and-set: admitting a request is one read and one CAS,
+ * with no lock. Buckets live in a bounded Caffeine cache (lock-free reads) and
+ * expire once idle long enough to have refilled, when they are
+ * indistinguishable from a new one.
+ *
+ * Decisions are counted as rate_limit.requests (tags class, outcome:
+ * admitted, rejected or address_rejected) and the tracked buckets as
+ * rate_limit.callers.
+ */
+@Component
+public class RateLimiter {
+
+    public enum EndpointClass {
+        READ, WRITE, BULK;
+
+        private final String key = name().toLowerCase(Locale.ROOT);
+    }
+
+    // address: the key is a client address charged against the address budget
+    private record Key(String caller, EndpointClass endpointClass, boolean address) {}
+
+    // Rate as the interval between tokens; burst as how far ahead of now the arrival time may run
+    private record Budget(long intervalNanos, long toleranceNanos) {
+        static Budget of(double perSecond, int burst) {
+            if (perSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("Rate limits need a positive rate and a burst of at least 1");
+            }
+            long interval = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / perSecond));
+            return new Budget(interval, interval * (burst - 1L));
+        }
+
+        long refillNanos() {
+            return intervalNanos + toleranceNanos;
+        }
+    }
+
+    private static final class Bucket {
+        private final AtomicLong arrival;
+
+        Bucket(long now) {
+            this.arrival = new AtomicLong(now);
+        }
+
+        // 0 when admitted, otherwise the nanos until a token is available
+        long tryAcquire(long now, Budget budget) {
+            while (true) {
+                long current = arrival.get();
+                long base = Math.max(current, now);
+                long wait = base - budget.toleranceNanos() - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (arrival.compareAndSet(current, base + budget.intervalNanos())) {
+                    return 0;
+                }
+            }
+        }
+    }
+
+    private final Map<EndpointClass, Budget> budgets = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Budget> addressBudgets = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> admitted = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejected = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> addressRejected = new EnumMap<>(EndpointClass.class);
+    private final Cache<Key, Bucket> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public RateLimiter(
+            @Value("${rate-limit.reads.per-second:20}") double readsPerSecond,
+            @Value("${rate-limit.reads.burst:60}") int readBurst,
+            @Value("${rate-limit.writes.per-second:5}") double writesPerSecond,
+            @Value("${rate-limit.writes.burst:20}") int writeBurst,
+            @Value("${rate-limit.bulk.per-second:0.5}") double bulkPerSecond,
+            @Value("${rate-limit.bulk.burst:5}") int bulkBurst,
+            @Value("${rate-limit.address-multiplier:10}") int addressMultiplier,
+            @Value("${rate-limit.max-callers:100000}") long maxCallers,
+            MeterRegistry registry) {
+        this(readsPerSecond, readBurst, writesPerSecond, writeBurst, bulkPerSecond, bulkBurst, addressMultiplier,
+                maxCallers, registry, System::nanoTime);
+    }
+
+    // nanoClock drives both the buckets and their expiry, so tests can step time
+    RateLimiter(double readsPerSecond, int readBurst, double writesPerSecond, int writeBurst,
+            double bulkPerSecond, int bulkBurst, int addressMultiplier, long maxCallers, MeterRegistry registry,
+            LongSupplier nanoClock) {
+        if (addressMultiplier < 1) {
+            throw new IllegalArgumentException("rate-limit.address-multiplier must be at least 1");
+        }
+        this.nanoClock = nanoClock;
+        budgets.put(EndpointClass.READ, Budget.of(readsPerSecond, readBurst));
+        budgets.put(EndpointClass.WRITE, Budget.of(writesPerSecond, writeBurst));
+        budgets.put(EndpointClass.BULK, Budget.of(bulkPerSecond, bulkBurst));
+        addressBudgets.put(EndpointClass.READ,
+                Budget.of(readsPerSecond * addressMultiplier, readBurst * addressMultiplier));
+        addressBudgets.put(EndpointClass.WRITE,
+                Budget.of(writesPerSecond * addressMultiplier, writeBurst * addressMultiplier));
+        addressBudgets.put(EndpointClass.BULK,
+                Budget.of(bulkPerSecond * addressMultiplier, bulkBurst * addressMultiplier));
+        long idle = 0;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            admitted.put(endpointClass, requests(registry, endpointClass, "admitted"));
+            rejected.put(endpointClass, requests(registry, endpointClass, "rejected"));
+            addressRejected.put(endpointClass, requests(registry, endpointClass, "address_rejected"));
+            idle = Math.max(idle, Math.max(budgets.get(endpointClass).refillNanos(),
+                    addressBudgets.get(endpointClass).refillNanos()));
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxCallers)
+                .expireAfterAccess(Duration.ofNanos(idle).plusSeconds(1))
+                .ticker(nanoClock::getAsLong)
+                .build();
+        Gauge.builder("rate_limit.callers", buckets, Cache::estimatedSize)
+                .description("Token buckets tracked, one per caller and endpoint class")
+                .register(registry);
+    }
+
+    private static Counter requests(MeterRegistry registry, EndpointClass endpointClass, String outcome) {
+        return Counter.builder("rate_limit.requests")
+                .description("Admission decisions")
+                .tag("class", endpointClass.key)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Takes a token for the client address and then for the caller, or
+     * returns how long until both have one (Duration.ZERO when admitted).
+     * A request the caller's bucket rejects still spends its address token.
+     */
+    public Duration tryAcquire(String caller, String address, EndpointClass endpointClass) {
+        long now = nanoClock.getAsLong();
+        long wait = take(new Key(address, endpointClass, true), addressBudgets.get(endpointClass), now);
+        if (wait > 0) {
+            addressRejected.get(endpointClass).increment();
+            return Duration.ofNanos(wait);
+        }
+        wait = take(new Key(caller, endpointClass, false), budgets.get(endpointClass), now);
+        if (wait > 0) {
+            rejected.get(endpointClass).increment();
+            return Duration.ofNanos(wait);
+        }
+        admitted.get(endpointClass).increment();
+        return Duration.ZERO;
+    }
+
+    private long take(Key key, Budget budget, long now) {
+        return buckets.get(key, k -> new Bucket(now)).tryAcquire(now, budget);
+    }
+}
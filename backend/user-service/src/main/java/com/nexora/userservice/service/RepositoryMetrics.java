@@ -0,0 +1,142 @@
+package com.nexora.userservice.service;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Per repository method, as Micrometer meters tagged by repository and
+ * method: call latency (repository.invocations, with an outcome tag),
+ * rows returned or, for @Modifying queries, rows changed
+ * (repository.rows) and SQL statements issued (repository.statements).
+ * Fed by the interceptor RepositoryMetricsConfig adds to every repository
+ * proxy; statements are counted by a Hibernate StatementInspector on the
+ * calling thread, so lazy loads triggered later are not charged to the
+ * method. Read them at /actuator/metrics.
+ *
+ * For Stream results the latency covers opening the cursor and the rows are
+ * counted as the caller consumes them, recorded when the stream is closed.
+ */
+@Component
+public class RepositoryMetrics {
+
+    public static final String INVOCATIONS = "repository.invocations";
+    public static final String ROWS = "repository.rows";
+    public static final String STATEMENTS_PER_CALL = "repository.statements";
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final MeterRegistry registry;
+
+    public RepositoryMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // Called by Hibernate for every statement it prepares
+    public static void countStatement() {
+        STATEMENTS.get()[0]++;
+    }
+
+    public static long statementsOnThisThread() {
+        return STATEMENTS.get()[0];
+    }
+
+    /**
+     * Meters of one repository method. Inherited methods (findById, save...)
+     * are shared by all repositories, hence the repository tag; overloads
+     * are reported together. Callers cache the result.
+     */
+    public MethodStats register(Class<?> repository, Method method) {
+        return new MethodStats(registry, repository.getSimpleName(), method.getName(),
+                AnnotatedElementUtils.hasAnnotation(method, Modifying.class));
+    }
+
+    public static final class MethodStats {
+        private final Timer latency;
+        private final Timer errorLatency;
+        private final DistributionSummary rows;
+        private final DistributionSummary statements;
+        private final boolean modifying;
+
+        MethodStats(MeterRegistry registry, String repository, String method, boolean modifying) {
+            this.modifying = modifying;
+            this.latency = timer(registry, repository, method, "success");
+            this.errorLatency = timer(registry, repository, method, "error");
+            this.rows = DistributionSummary.builder(ROWS)
+                    .description(modifying ? "Rows changed per call" : "Rows returned per call")
+                    .baseUnit("rows")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry);
+            this.statements = DistributionSummary.builder(STATEMENTS_PER_CALL)
+                    .description("SQL statements prepared per call")
+                    .baseUnit("statements")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, String repository, String method, String outcome) {
+            return Timer.builder(INVOCATIONS)
+                    .description("Repository method latency")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        /**
+         * Records one call and returns the result to hand back to the caller
+         * (a Stream is wrapped to count its rows).
+         */
+        public Object record(long nanos, long statementCount, Object result, Throwable error) {
+            statements.record(statementCount);
+            if (error != null) {
+                errorLatency.record(nanos, TimeUnit.NANOSECONDS);
+                return result;
+            }
+            latency.record(nanos, TimeUnit.NANOSECONDS);
+            if (result instanceof Stream<?> stream) {
+                LongAdder consumed = new LongAdder();
+                return stream.peek(row -> consumed.increment()).onClose(() -> rows.record(consumed.sum()));
+            }
+            rows.record(rowCount(result));
+            return result;
+        }
+
+        private long rowCount(Object result) {
+            if (result == null) {
+                return 0;
+            }
+            if (result instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (result instanceof Optional<?> optional) {
+                return optional.isPresent() ? 1 : 0;
+            }
+            if (result instanceof Slice<?> slice) {
+                return slice.getNumberOfElements();
+            }
+            if (modifying && result instanceof Number changed) {
+                return changed.longValue();
+            }
+            return 1;
+        }
+    }
+}
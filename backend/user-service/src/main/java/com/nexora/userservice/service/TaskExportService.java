@@ -0,0 +1,182 @@
+package com.nexora.userservice.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexora.userservice.dto.TaskAssigneeRow;
+import com.nexora.userservice.dto.TaskCardResponse;
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Streams every task of a project as NDJSON or CSV in constant memory.
+ *
+ * Tasks and their assignee rows come from two server-side cursors in the
+ * same order and are merge-joined, so each task is written and detached
+ * before the next one is read - two statements whatever the project size.
+ * REPEATABLE READ gives both statements one snapshot; under READ COMMITTED
+ * a task created between them would have assignee rows but no task row.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final String CSV_HEADER =
+            "id,title,description,status,createdBy,createdAt,updatedAt,assignedAt,assignees\n";
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportTasks(Long projectId, TaskFileFormat format, OutputStream out) throws IOException {
+        try (Stream<Task> tasks = taskRepository.streamByProjectId(projectId);
+             Stream<TaskAssigneeRow> assigneeRows = taskRepository.streamAssigneeRowsByProjectId(projectId)) {
+            if (format == TaskFileFormat.CSV) {
+                writeCsv(tasks.iterator(), assigneeRows.iterator(), out);
+            } else {
+                writeNdjson(tasks.iterator(), assigneeRows.iterator(), out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<Task> tasks, Iterator<TaskAssigneeRow> assigneeRows,
+                             OutputStream out) throws IOException {
+        AssigneeMerge merge = new AssigneeMerge(assigneeRows);
+        while (tasks.hasNext()) {
+            out.write(objectMapper.writeValueAsBytes(merge.next(tasks.next())));
+            out.write('\n');
+        }
+        merge.finish();
+        out.flush();
+    }
+
+    private void writeCsv(Iterator<Task> tasks, Iterator<TaskAssigneeRow> assigneeRows,
+                          OutputStream out) throws IOException {
+        AssigneeMerge merge = new AssigneeMerge(assigneeRows);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        StringBuilder uids = new StringBuilder();
+        while (tasks.hasNext()) {
+            TaskCardResponse card = merge.next(tasks.next());
+            uids.setLength(0);
+            for (Task.TaskAssignee assignee : card.getAssignees()) {
+                if (!uids.isEmpty()) {
+                    uids.append(';');
+                }
+                uids.append(assignee.getFirebaseUid());
+            }
+            writeCsvRow(writer, card.getId(), card.getTitle(), card.getDescription(), card.getStatus(),
+                    card.getCreatedBy(), card.getCreatedAt(), card.getUpdatedAt(), card.getAssignedAt(), uids);
+        }
+        merge.finish();
+        writer.flush();
+    }
+
+    // Quotes only when needed, so the file re-imports through the CSV importer
+    private static void writeCsvRow(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (values[i] == null) {
+                continue;
+            }
+            String text = values[i].toString();
+            boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                    || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+            if (!quote) {
+                out.write(text);
+                continue;
+            }
+            out.write('"');
+            out.write(text.replace("\"", "\"\""));
+            out.write('"');
+        }
+        out.write('\n');
+    }
+
+    /**
+     * Pairs each task with its assignee rows. Both cursors are ordered by
+     * (createdAt DESC, id DESC), so the rows of a task are always next.
+     * Rows that sort before the current task belong to no exported task and
+     * are dropped rather than left to stall the merge.
+     */
+    private final class AssigneeMerge {
+        private final Iterator<TaskAssigneeRow> rows;
+        private TaskAssigneeRow pending;
+        private long dropped;
+
+        AssigneeMerge(Iterator<TaskAssigneeRow> rows) {
+            this.rows = rows;
+            this.pending = rows.hasNext() ? rows.next() : null;
+        }
+
+        TaskCardResponse next(Task task) {
+            TaskCardResponse card = new TaskCardResponse(task.getId(), projectIdOf(task), task.getTitle(),
+                    task.getDescription(), task.getStatus(), task.getCreatedBy(), task.getCreatedAt(),
+                    task.getUpdatedAt(), task.getAssignedAt(), task.getVersion());
+            while (pending != null && sortsBefore(pending, task)) {
+                dropped++;
+                advance();
+            }
+            while (pending != null && pending.getTaskId().equals(task.getId())) {
+                card.getAssignees().add(pending.toAssignee());
+                advance();
+            }
+            // Nothing else references the entity; keep the persistence context empty
+            entityManager.detach(task);
+            return card;
+        }
+
+        void finish() {
+            while (pending != null) {
+                dropped++;
+                advance();
+            }
+            if (dropped > 0) {
+                log.warn("Task export dropped {} assignee rows with no matching task", dropped);
+            }
+        }
+
+        private void advance() {
+            pending = rows.hasNext() ? rows.next() : null;
+        }
+
+        // PostgreSQL's DESC order puts NULL createdAt first
+        private boolean sortsBefore(TaskAssigneeRow row, Task task) {
+            LocalDateTime rowAt = row.getTaskCreatedAt();
+            LocalDateTime taskAt = task.getCreatedAt();
+            if (rowAt == null || taskAt == null) {
+                if (rowAt != taskAt) {
+                    return rowAt == null;
+                }
+            } else if (!rowAt.equals(taskAt)) {
+                return rowAt.isAfter(taskAt);
+            }
+            return row.getTaskId() > task.getId();
+        }
+
+        // The lazy project proxy already holds its id; no extra query
+        private Long projectIdOf(Task task) {
+            return task.getProject() != null ? task.getProject().getId() : null;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.nexora.userservice.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexora.userservice.dto.TaskEvent;
+import com.nexora.userservice.dto.TaskImportError;
+import com.nexora.userservice.dto.TaskImportEvent;
+import com.nexora.userservice.dto.TaskImportRow;
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.TaskAssigneeJson;
+import com.nexora.userservice.entity.TaskStatus;
+import com.nexora.userservice.entity.User;
+import com.nexora.userservice.repository.ProjectRepository;
+import com.nexora.userservice.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Streaming task import (NDJSON or CSV) written through PostgreSQL COPY.
+ *
+ * Rows are parsed and validated one at a time; valid rows collect into
+ * chunks of CHUNK_SIZE that are copied into tasks and task_assignees and
+ * committed together, so memory stays at one chunk whatever the file size.
+ * Invalid rows are skipped and reported with their row number.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    // allocationSize of tasks_seq: every nextval reserves (value - 49 .. value]
+    private static final int ID_BLOCK = 50;
+    private static final int MAX_TEXT = 255;
+    private static final int MAX_DESCRIPTION = 1000;
+
+    private static final String COPY_TASKS = "COPY tasks (id, project_id, title, description, status, " +
+            "created_by, created_at, updated_at, assignees, assignee_user_id, assignee_name, " +
+            "assignee_email, assignee_photo, assigned_at, assigned_by) FROM STDIN (FORMAT csv)";
+    private static final String COPY_ASSIGNEES = "COPY task_assignees (task_id, position, firebase_uid, " +
+            "name, email, photo_url) FROM STDIN (FORMAT csv)";
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectVersions projectVersions;
+
+    /**
+     * Import tasks into a project. listener receives a progress event after
+     * every committed chunk and a final done event; a failure mid-stream
+     * (unreadable input, database error) is thrown after the chunks before it
+     * were committed.
+     */
+    public TaskImportEvent importTasks(Long projectId, String createdBy, TaskFileFormat format, Reader input,
+                                       Consumer<TaskImportEvent> listener) throws IOException {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+        Map<String, Task.TaskAssignee> members = loadMembers(projectId);
+
+        ImportState state = new ImportState(projectId, createdBy, members, listener);
+        BufferedReader reader = new BufferedReader(input);
+        if (format == TaskFileFormat.CSV) {
+            readCsv(reader, state);
+        } else {
+            readNdjson(reader, state);
+        }
+        state.flush();
+        if (state.imported > 0) {
+            eventPublisher.publishEvent(TaskEvent.reload(projectId));
+        }
+
+        TaskImportEvent done = TaskImportEvent.of("done", state.rowsRead, state.imported, state.failed);
+        listener.accept(done);
+        return done;
+    }
+
+    // ========================================
+    // PARSING
+    // ========================================
+
+    private void readNdjson(BufferedReader reader, ImportState state) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long row = ++state.rowsRead;
+            try {
+                state.accept(row, objectMapper.readValue(line, TaskImportRow.class));
+            } catch (JacksonException e) {
+                state.reject(row, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportState state) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV header must contain a 'title' column");
+        }
+
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            long row = ++state.rowsRead;
+            TaskImportRow parsed = new TaskImportRow();
+            parsed.setTitle(column(record, columns, "title"));
+            parsed.setDescription(column(record, columns, "description"));
+            parsed.setStatus(column(record, columns, "status"));
+            String assignees = column(record, columns, "assignees");
+            if (assignees != null && !assignees.isBlank()) {
+                parsed.setAssignees(Arrays.asList(assignees.split(";")));
+            }
+            state.accept(row, parsed);
+        }
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    // ========================================
+    // VALIDATION
+    // ========================================
+
+    // Owner and members by firebase UID and by email; a project has few of them
+    private Map<String, Task.TaskAssignee> loadMembers(Long projectId) {
+        Map<String, Task.TaskAssignee> members = new HashMap<>();
+        for (User user : userRepository.findProjectUsers(projectId)) {
+            Task.TaskAssignee assignee = new Task.TaskAssignee(
+                    user.getFirebaseUid(), user.getDisplayName(), user.getEmail(), user.getPhotoUrl());
+            members.put(user.getFirebaseUid(), assignee);
+            members.put(user.getEmail().toLowerCase(Locale.ROOT), assignee);
+        }
+        return members;
+    }
+
+    private static String validate(TaskImportRow row, Map<String, Task.TaskAssignee> members,
+                                   List<Task.TaskAssignee> assignees) {
+        if (row == null || row.getTitle() == null || row.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (row.getTitle().length() > MAX_TEXT) {
+            return "title is longer than " + MAX_TEXT + " characters";
+        }
+        if (row.getDescription() != null && row.getDescription().length() > MAX_DESCRIPTION) {
+            return "description is longer than " + MAX_DESCRIPTION + " characters";
+        }
+        if (row.getStatus() != null) {
+            try {
+                TaskStatus.parse(row.getStatus());
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+        }
+        if (row.getAssignees() != null) {
+            for (String ref : row.getAssignees()) {
+                if (ref == null || ref.isBlank()) {
+                    continue;
+                }
+                String key = ref.trim();
+                Task.TaskAssignee member = members.get(key);
+                if (member == null) {
+                    member = members.get(key.toLowerCase(Locale.ROOT));
+                }
+                if (member == null) {
+                    return "assignee " + key + " is not a member of this project";
+                }
+                if (!assignees.contains(member)) {
+                    assignees.add(member);
+                }
+            }
+        }
+        return null;
+    }
+
+    // ========================================
+    // COPY
+    // ========================================
+
+    private final class ImportState {
+        private final Long projectId;
+        private final String createdBy;
+        private final Map<String, Task.TaskAssignee> members;
+        private final Consumer<TaskImportEvent> listener;
+
+        private final List<TaskImportRow> rows = new ArrayList<>(CHUNK_SIZE);
+        private final List<List<Task.TaskAssignee>> rowAssignees = new ArrayList<>(CHUNK_SIZE);
+        private final List<TaskImportError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long failed;
+
+        ImportState(Long projectId, String createdBy, Map<String, Task.TaskAssignee> members,
+                    Consumer<TaskImportEvent> listener) {
+            this.projectId = projectId;
+            this.createdBy = createdBy;
+            this.members = members;
+            this.listener = listener;
+        }
+
+        void accept(long row, TaskImportRow parsed) {
+            List<Task.TaskAssignee> assignees = new ArrayList<>();
+            String error = validate(parsed, members, assignees);
+            if (error != null) {
+                reject(row, error);
+                return;
+            }
+            rows.add(parsed);
+            rowAssignees.add(assignees);
+            if (rows.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long row, String error) {
+            failed++;
+            errors.add(new TaskImportError(row, error));
+            // Keep the error list bounded even when nothing valid arrives
+            if (errors.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    copyChunk();
+                    projectVersions.bump(projectId);
+                });
+                imported += rows.size();
+            }
+            if (!rows.isEmpty() || !errors.isEmpty()) {
+                TaskImportEvent event = TaskImportEvent.of("progress", rowsRead, imported, failed);
+                event.setErrors(new ArrayList<>(errors));
+                listener.accept(event);
+            }
+            rows.clear();
+            rowAssignees.clear();
+            errors.clear();
+        }
+
+        private void copyChunk() {
+            // The JDBC connection bound to the current JPA transaction
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            try {
+                List<Long> ids = allocateIds(connection, rows.size());
+                LocalDateTime now = LocalDateTime.now();
+
+                StringBuilder tasks = new StringBuilder(rows.size() * 128);
+                StringBuilder assigneeRows = new StringBuilder();
+                for (int i = 0; i < rows.size(); i++) {
+                    TaskImportRow row = rows.get(i);
+                    List<Task.TaskAssignee> assignees = rowAssignees.get(i);
+                    Task.TaskAssignee first = assignees.isEmpty() ? null : assignees.get(0);
+                    Long id = ids.get(i);
+
+                    csvRow(tasks, id, projectId, row.getTitle(), row.getDescription(),
+                            (row.getStatus() != null ? TaskStatus.parse(row.getStatus()) : TaskStatus.TODO).getCode(), createdBy, now, now,
+                            TaskAssigneeJson.write(assignees),
+                            first != null ? first.getFirebaseUid() : null,
+                            first != null ? first.getName() : null,
+                            first != null ? first.getEmail() : null,
+                            first != null ? first.getPhotoUrl() : null,
+                            first != null ? now : null,
+                            first != null ? createdBy : null);
+                    for (int position = 0; position < assignees.size(); position++) {
+                        Task.TaskAssignee a = assignees.get(position);
+                        csvRow(assigneeRows, id, position, a.getFirebaseUid(), a.getName(), a.getEmail(), a.getPhotoUrl());
+                    }
+                }
+
+                CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+                copy.copyIn(COPY_TASKS, new StringReader(tasks.toString()));
+                if (!assigneeRows.isEmpty()) {
+                    copy.copyIn(COPY_ASSIGNEES, new StringReader(assigneeRows.toString()));
+                }
+            } catch (SQLException | IOException e) {
+                throw new RuntimeException("Import failed: " + e.getMessage(), e);
+            } finally {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        }
+    }
+
+    // Same pooled blocks Hibernate takes from tasks_seq, so ids never collide
+    private static List<Long> allocateIds(Connection connection, int count) throws SQLException {
+        List<Long> ids = new ArrayList<>(count);
+        int blocks = (count + ID_BLOCK - 1) / ID_BLOCK;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT nextval('tasks_seq') FROM generate_series(1, " + blocks + ")")) {
+            while (rs.next()) {
+                long hi = rs.getLong(1);
+                for (long id = Math.max(1, hi - ID_BLOCK + 1); id <= hi; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        // A fresh sequence starts with a single-id block; top up if that left us short
+        if (ids.size() < count) {
+            ids.addAll(allocateIds(connection, count - ids.size()));
+        }
+        return ids.subList(0, count);
+    }
+
+    // COPY csv: unquoted empty is NULL, so real values are always quoted
+    private static void csvRow(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            String text = value.toString();
+            out.append('"');
+            for (int j = 0; j < text.length(); j++) {
+                char c = text.charAt(j);
+                if (c == '"') {
+                    out.append('"');
+                }
+                out.append(c);
+            }
+            out.append('"');
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,223 @@
+package com.nexora.userservice.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Serialized JSON (or CBOR) of a project's task lists (all, assigned,
+ * unassigned) with the ETag they were built under, so a hot board is answered
+ * without a database query or a Jackson pass. Bounded by total bytes, not
+ * entries.
+ *
+ * A project's entries are dropped after every commit that bumps its content
+ * version (see ProjectVersions), which every task, member and project change
+ * does. A list loaded concurrently with such a commit may describe the
+ * pre-commit state; a per-project generation, advanced before the drop, keeps
+ * it out of the cache. Profile changes of the embedded project owner bump
+ * the project too (UserService); only writes made outside the service wait
+ * for the TTL.
+ *
+ * Misses load on the calling thread, as in MembershipCache; concurrent misses
+ * on one list share a single load.
+ *
+ * Published as the cache.* meters tagged cache=task-lists, plus
+ * cache.weight: the bytes currently held.
+ */
+@Component
+public class TaskListCache {
+
+    public enum View { ALL, ASSIGNED, UNASSIGNED }
+
+    /**
+     * Response encoding. Each format is cached separately under its own ETag
+     * ("tasks-1-42-cbor"), so a client never revalidates one against the other.
+     */
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON, ""),
+        CBOR(MediaType.APPLICATION_CBOR, "-cbor");
+
+        private final MediaType mediaType;
+        private final String eTagSuffix;
+
+        Format(MediaType mediaType, String eTagSuffix) {
+            this.mediaType = mediaType;
+            this.eTagSuffix = eTagSuffix;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        // This encoding's tag for the JSON ETag, e.g. W/"tasks-1-42" -> W/"tasks-1-42-cbor"
+        public String eTag(String jsonETag) {
+            if (jsonETag == null || eTagSuffix.isEmpty()) {
+                return jsonETag;
+            }
+            return jsonETag.substring(0, jsonETag.length() - 1) + eTagSuffix + "\"";
+        }
+
+        /**
+         * CBOR only when the Accept header names application/cbor and prefers
+         * it over JSON, by quality, then specificity, then order (as Spring's
+         * negotiation for converter-written responses); otherwise JSON
+         */
+        public static Format fromAccept(String accept) {
+            if (accept == null || !accept.contains("cbor")) {
+                return JSON;
+            }
+            List<MediaType> accepted;
+            try {
+                accepted = MediaType.parseMediaTypes(accept);
+            } catch (InvalidMediaTypeException e) {
+                return JSON;
+            }
+            int cbor = bestMatch(accepted, MediaType.APPLICATION_CBOR, true);
+            int json = bestMatch(accepted, MediaType.APPLICATION_JSON, false);
+            if (cbor < 0 || accepted.get(cbor).getQualityValue() == 0) {
+                return JSON;
+            }
+            if (json < 0) {
+                return CBOR;
+            }
+            MediaType cborRange = accepted.get(cbor);
+            MediaType jsonRange = accepted.get(json);
+            int byQuality = Double.compare(cborRange.getQualityValue(), jsonRange.getQualityValue());
+            if (byQuality != 0) {
+                return byQuality > 0 ? CBOR : JSON;
+            }
+            if (cborRange.isMoreSpecific(jsonRange)) {
+                return CBOR;
+            }
+            if (jsonRange.isMoreSpecific(cborRange)) {
+                return JSON;
+            }
+            return cbor < json ? CBOR : JSON;
+        }
+
+        // Index of the most specific range matching type (RFC 9110, 12.5.1), or -1
+        private static int bestMatch(List<MediaType> accepted, MediaType type, boolean exactOnly) {
+            int best = -1;
+            for (int i = 0; i < accepted.size(); i++) {
+                MediaType range = accepted.get(i);
+                boolean matches = exactOnly ? type.equalsTypeAndSubtype(range) : range.includes(type);
+                if (matches && (best < 0 || range.isMoreSpecific(accepted.get(best)))) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+
+    public record Entry(String eTag, byte[] body) {}
+
+    // Key and entry overhead charged on top of the body
+    private static final int ENTRY_OVERHEAD = 96;
+    private static final int GENERATION_STRIPES = 1024;
+    private static final String METRICS_NAME = "task-lists";
+
+    private final AsyncCache<Key, Entry> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public TaskListCache(
+            @Value("${tasks.list-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${tasks.list-cache.ttl:10m}") Duration ttl,
+            MeterRegistry registry) {
+        this.cache = CaffeineCacheMetrics.monitor(registry, Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, Entry entry) -> entry.body().length + ENTRY_OVERHEAD)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<Key, Entry>buildAsync(), METRICS_NAME);
+        Gauge.builder("cache.weight", this, TaskListCache::weightedSize)
+                .description("Bytes of serialized lists held, including per-entry overhead")
+                .baseUnit("bytes")
+                .tag("cache", METRICS_NAME)
+                .register(registry);
+    }
+
+    /**
+     * The cached list, or the one the loader builds. The loader must read the
+     * ETag before the tasks, as ProjectVersions prescribes.
+     */
+    public Entry get(Long projectId, View view, Format format, Supplier<Entry> loader) {
+        Key key = new Key(projectId, view, format);
+        CompletableFuture<Entry> load = new CompletableFuture<>();
+        CompletableFuture<Entry> entry = cache.get(key, (k, executor) -> load);
+        if (entry == load) {
+            long generation = generations.get(stripe(projectId));
+            try {
+                load.complete(loader.get());
+            } catch (RuntimeException e) {
+                // Failed futures are dropped by the cache; waiters see the same error
+                load.completeExceptionally(e);
+                throw e;
+            }
+            if (generations.get(stripe(projectId)) != generation) {
+                cache.asMap().remove(key, load);
+            }
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Drops the project's lists once the current transaction commits
+     * (immediately without one).
+     */
+    public void evictProject(Long projectId) {
+        Runnable evict = () -> {
+            generations.incrementAndGet(stripe(projectId));
+            for (View view : View.values()) {
+                for (Format format : Format.values()) {
+                    cache.synchronous().invalidate(new Key(projectId, view, format));
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    // Applies pending writes first; Caffeine otherwise weighs them on a pool thread
+    private long weightedSize() {
+        cache.synchronous().cleanUp();
+        return cache.synchronous().policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+    }
+
+    private static int stripe(Long projectId) {
+        return (int) (projectId & (GENERATION_STRIPES - 1));
+    }
+
+    private record Key(Long projectId, View view, Format format) {}
+}
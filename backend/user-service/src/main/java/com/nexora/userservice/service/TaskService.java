@@ -2,29 +2,73 @@ package com.nexora.userservice.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.nexora.userservice.dto.AssignTaskRequest;
+import com.nexora.userservice.dto.BulkOperationResponse;
+import com.nexora.userservice.dto.BulkTaskResult;
+import com.nexora.userservice.dto.CursorPageResponse;
+import com.nexora.userservice.dto.ProjectTaskStatsResponse;
+import com.nexora.userservice.dto.TaskAssigneeRow;
+import com.nexora.userservice.dto.TaskCardResponse;
+import com.nexora.userservice.dto.TaskEvent;
+import com.nexora.userservice.dto.TaskRequest;
+import com.nexora.userservice.dto.KeysetCursor;
+import com.nexora.userservice.dto.SearchCursor;
+import com.nexora.userservice.dto.TaskSearchHit;
+import com.nexora.userservice.dto.TaskStatusRow;
 import com.nexora.userservice.entity.Project;
 import com.nexora.userservice.entity.ProjectMember;
 import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.TaskAssigneeJson;
+import com.nexora.userservice.entity.TaskStatus;
 import com.nexora.userservice.repository.ProjectMemberRepository;
 import com.nexora.userservice.repository.ProjectRepository;
+import com.nexora.userservice.repository.TaskProjectRef;
 import com.nexora.userservice.repository.TaskRepository;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_TERMS = 8;
+    private static final Pattern SEARCH_TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int BULK_CHUNK_SIZE = 1000;
+    public static final int MAX_BULK_CREATE = 10_000;
+    // Multiple of hibernate.jdbc.batch_size; bounds the persistence context
+    private static final int BULK_FLUSH_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectMemberService projectMemberService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectVersions projectVersions;
 
     // ========================================
     // EXISTING METHODS
@@ -40,11 +84,65 @@ public class TaskService {
         task.setDescription(description);
         task.setProject(project);
         task.setCreatedBy(createdBy);  // ✅ NEW: Track who created the task
-        task.setStatus("TODO");
+        task.setStatus(TaskStatus.TODO);
         task.setCreatedAt(LocalDateTime.now());
         task.setUpdatedAt(LocalDateTime.now());
 
-        return taskRepository.save(task);
+        return saveAndPublish(task, TaskEvent.CREATED);
+    }
+
+    /**
+     * Create many tasks in one transaction. Ids come from the pooled tasks_seq,
+     * so the inserts go out as JDBC batches; the persistence context is
+     * flushed and cleared every BULK_FLUSH_SIZE rows to keep memory flat.
+     * All-or-nothing: any invalid entry rejects the whole request.
+     */
+    @Transactional
+    public BulkOperationResponse createTasks(Long projectId, List<TaskRequest> requests, String createdBy) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("tasks must be a non-empty list");
+        }
+        if (requests.size() > MAX_BULK_CREATE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_CREATE + " tasks per request");
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            if (request == null || request.getTitle() == null || request.getTitle().isBlank()) {
+                throw new IllegalArgumentException("Task at index " + i + " has no title");
+            }
+            if (request.getStatus() != null && !request.getStatus().isBlank()) {
+                try {
+                    TaskStatus.parse(request.getStatus());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Task at index " + i + ": " + e.getMessage());
+                }
+            }
+        }
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+
+        List<BulkTaskResult> results = new ArrayList<>(requests.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            Task task = new Task(request.getTitle(), request.getDescription(), project, createdBy);
+            if (request.getStatus() != null && !request.getStatus().isBlank()) {
+                task.setStatus(TaskStatus.parse(request.getStatus()));
+            }
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            entityManager.persist(task);
+            results.add(BulkTaskResult.ok(task.getId()));
+
+            if ((i + 1) % BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        projectVersions.bump(projectId);
+        eventPublisher.publishEvent(TaskEvent.reload(projectId));
+        return BulkOperationResponse.of(results);
     }
 
     public List<Task> getProjectTasks(Long projectId) {
@@ -54,25 +152,221 @@ public class TaskService {
         return taskRepository.findByProjectOrderByCreatedAtDesc(project);
     }
 
+    /**
+     * Keyset page of a project's tasks, newest first.
+     * Cost stays constant at any depth, unlike OFFSET.
+     */
+    public CursorPageResponse<Task> getProjectTasksPage(Long projectId, String cursor, int limit) {
+        int size = clampPageSize(limit);
+        PageRequest fetch = PageRequest.of(0, size + 1);
+        List<Task> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = taskRepository.findProjectTasksFirstPage(projectId, fetch);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = taskRepository.findProjectTasksAfter(projectId, after.getCreatedAt(), after.getId(), fetch);
+        }
+        return toPage(rows, size, KeysetCursor::after);
+    }
+
+    // ========================================
+    // BOARD CARDS (lean read path)
+    // ========================================
+
+    /**
+     * All task cards of a project: two read-only queries (cards + assignee rows),
+     * no entities enter the persistence context
+     */
+    @Transactional(readOnly = true)
+    public List<TaskCardResponse> getProjectTaskCards(Long projectId) {
+        List<TaskCardResponse> cards = taskRepository.findCardsByProjectId(projectId);
+        attachAssignees(cards, taskRepository.findAssigneeRowsByProjectId(projectId));
+        return cards;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskCardResponse> getProjectTaskCardsPage(Long projectId, String cursor, int limit) {
+        int size = clampPageSize(limit);
+        PageRequest fetch = PageRequest.of(0, size + 1);
+        List<TaskCardResponse> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = taskRepository.findCardsByProjectIdFirstPage(projectId, fetch);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = taskRepository.findCardsByProjectIdAfter(projectId, after.getCreatedAt(), after.getId(), fetch);
+        }
+        CursorPageResponse<TaskCardResponse> page = toPage(rows, size, KeysetCursor::after);
+        if (!page.getItems().isEmpty()) {
+            List<Long> ids = page.getItems().stream().map(TaskCardResponse::getId).toList();
+            attachAssignees(page.getItems(), taskRepository.findAssigneeRowsByTaskIds(ids));
+        }
+        return page;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskCardResponse> getTaskCardsByAssignee(String userId) {
+        List<TaskCardResponse> cards = taskRepository.findCardsByAssignee(userId);
+        attachAssignees(cards, taskRepository.findAssigneeRowsOfTasksAssignedTo(userId));
+        return cards;
+    }
+
+    /**
+     * Cards of a project's tasks that are not DONE (idx_tasks_open_project)
+     */
+    @Transactional(readOnly = true)
+    public List<TaskCardResponse> getOpenProjectTaskCards(Long projectId) {
+        List<TaskCardResponse> cards = taskRepository.findOpenCardsByProjectId(projectId);
+        attachAssignees(cards, taskRepository.findAssigneeRowsOfOpenTasksByProjectId(projectId));
+        return cards;
+    }
+
+    /**
+     * Cards of the open tasks assigned to a user: ids from the partial
+     * assignee index, then cards and assignees by id
+     */
+    @Transactional(readOnly = true)
+    public List<TaskCardResponse> getOpenTaskCardsByAssignee(String userId) {
+        List<Long> ids = taskRepository.findOpenTaskIdsByAssignee(userId);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<TaskCardResponse> cards = taskRepository.findCardsByIdIn(ids);
+        attachAssignees(cards, taskRepository.findAssigneeRowsByTaskIds(ids));
+        return cards;
+    }
+
+    // Rows arrive ordered by task and position, so per-card order is preserved
+    private static void attachAssignees(List<TaskCardResponse> cards, List<TaskAssigneeRow> rows) {
+        Map<Long, TaskCardResponse> byId = new HashMap<>(cards.size() * 2);
+        for (TaskCardResponse card : cards) {
+            byId.put(card.getId(), card);
+        }
+        for (TaskAssigneeRow row : rows) {
+            TaskCardResponse card = byId.get(row.getTaskId());
+            if (card != null) {
+                card.getAssignees().add(row.toAssignee());
+            }
+        }
+    }
+
+    /**
+     * Read-modify-write status change; throws IllegalArgumentException for an
+     * unknown status or a move the transition table forbids. Setting the
+     * current status again is a no-op.
+     */
     @Transactional
     public Task updateTaskStatus(Long taskId, String status) {
+        TaskStatus target = TaskStatus.parse(status);
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
+        if (task.getStatus() == target) {
+            return task;
+        }
+        TaskStatus.checkTransition(task.getStatus(), target);
 
-        task.setStatus(status);
+        task.setStatus(target);
         task.setUpdatedAt(LocalDateTime.now());
-        return taskRepository.save(task);
+        return saveAndPublish(task, TaskEvent.UPDATED);
+    }
+
+    /**
+     * Compare-and-set status change in a single statement (no entity load):
+     * applied only while the task still has fromStatus and version and the
+     * user can access its project. Empty when it was not applied; throws
+     * IllegalArgumentException for an unknown status or a forbidden move.
+     * Pending changes are flushed first and a copy of the task already in
+     * the persistence context is evicted after, so a later flush can't undo
+     * the transition or trip over its version.
+     */
+    @Transactional
+    public Optional<TaskStatusRow> transitionStatus(Long taskId, String fromStatus, String toStatus,
+                                                    long version, String firebaseUid) {
+        TaskStatus from = TaskStatus.parse(fromStatus);
+        TaskStatus to = TaskStatus.parse(toStatus);
+        TaskStatus.checkTransition(from, to);
+        entityManager.flush();
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(TaskRepository.TRANSITION_STATUS)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("project_id", Long.class)
+                .addScalar("status", String.class)
+                .addScalar("version", Long.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .setParameter("id", taskId)
+                .setParameter("fromStatus", from.getCode())
+                .setParameter("toStatus", to.getCode())
+                .setParameter("version", version)
+                .setParameter("firebaseUid", firebaseUid)
+                .setParameter("updatedAt", LocalDateTime.now())
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] columns = rows.get(0);
+        TaskStatusRow row = new TaskStatusRow((Long) columns[0], (Long) columns[1], (String) columns[2],
+                (Long) columns[3], (LocalDateTime) columns[4]);
+        // A reference is the managed Task when there is one, else a proxy: no query either way
+        entityManager.detach(entityManager.getReference(Task.class, taskId));
+        projectVersions.bumped(row.getProjectId());
+        eventPublisher.publishEvent(TaskEvent.status(row));
+        return Optional.of(row);
     }
 
     @Transactional
     public void deleteTask(Long taskId) {
-        taskRepository.deleteById(taskId);
+        taskRepository.findById(taskId).ifPresent(this::deleteAndPublish);
     }
 
     public Optional<Task> getTaskById(Long id) {
         return taskRepository.findById(id);
     }
 
+    // ========================================
+    // FULL-TEXT SEARCH
+    // ========================================
+
+    /**
+     * Ranked keyset page of the tasks matching free text in the projects the
+     * user can access (or only projectId). Every word is a prefix match, so
+     * "depl fail" finds "Deployment failed".
+     */
+    public CursorPageResponse<TaskSearchHit> searchTasks(String firebaseUid, String text, Long projectId,
+                                                         String cursor, int limit) {
+        String query = toPrefixQuery(text);
+        if (query == null) {
+            throw new IllegalArgumentException("Search text must contain a letter or digit");
+        }
+        int size = clampPageSize(limit);
+        SearchCursor after = cursor == null || cursor.isEmpty() ? SearchCursor.start() : SearchCursor.decode(cursor);
+        List<TaskSearchHit> rows = taskRepository.searchTasks(
+                query, firebaseUid, projectId, after.getRank(), after.getId(), size + 1);
+
+        boolean hasMore = rows.size() > size;
+        List<TaskSearchHit> items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? SearchCursor.after(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * "deploy fail!" -> "deploy:* & fail:*". Only runs of letters and digits
+     * are kept, so user input cannot reach the tsquery syntax; null when none.
+     */
+    static String toPrefixQuery(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        Matcher terms = SEARCH_TERM.matcher(text.toLowerCase());
+        for (int count = 0; count < MAX_SEARCH_TERMS && terms.find(); count++) {
+            if (query.length() > 0) {
+                query.append(" & ");
+            }
+            query.append(terms.group()).append(":*");
+        }
+        return query.length() > 0 ? query.toString() : null;
+    }
+
     // ========================================
     // NEW: ASSIGNEE METHODS
     // ========================================
@@ -88,7 +382,7 @@ public class TaskService {
 
         // ✅ NEW: If request has null/empty userId, unassign and return
         if (request.getAssigneeUserId() == null || request.getAssigneeUserId().isEmpty()) {
-            System.out.println("🔄 Unassigning task (null assignee received)");
+            log.debug("Unassigning task {} (null assignee received)", taskId);
             return unassignTask(taskId);
         }
 
@@ -104,16 +398,18 @@ public class TaskService {
             throw new RuntimeException("User is not a member of this project. Please add them as a member first.");
         }
 
-        // Assign the task
-        task.setAssigneeUserId(request.getAssigneeUserId());
-        task.setAssigneeName(request.getAssigneeName());
-        task.setAssigneeEmail(request.getAssigneeEmail());
-        task.setAssigneePhoto(request.getAssigneePhoto());
+        // Assign the task (single assignee is a one-element task_assignees list)
+        task.setAssignees(List.of(new Task.TaskAssignee(
+            request.getAssigneeUserId(),
+            request.getAssigneeName(),
+            request.getAssigneeEmail(),
+            request.getAssigneePhoto()
+        )));
         task.setAssignedAt(LocalDateTime.now());
         task.setAssignedBy(assignedBy);
         task.setUpdatedAt(LocalDateTime.now());
 
-        return taskRepository.save(task);
+        return saveAndPublish(task, TaskEvent.ASSIGNED);
     }
 
     /**
@@ -136,7 +432,7 @@ public class TaskService {
         task.setAssignees(new ArrayList<>());  // This will set assigneesJson to "[]"
         task.setUpdatedAt(LocalDateTime.now());
 
-        return taskRepository.save(task);
+        return saveAndPublish(task, TaskEvent.ASSIGNED);
     }
 
     /**
@@ -156,6 +452,22 @@ public class TaskService {
         return taskRepository.findByAssigneeUserIdOrderByCreatedAtDesc(userId);
     }
 
+    /**
+     * Keyset page of tasks assigned to a user (across all projects), newest first
+     */
+    public CursorPageResponse<Task> getTasksByAssigneePage(String userId, String cursor, int limit) {
+        int size = clampPageSize(limit);
+        PageRequest fetch = PageRequest.of(0, size + 1);
+        List<Task> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = taskRepository.findAssignedTasksFirstPage(userId, fetch);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = taskRepository.findAssignedTasksAfter(userId, after.getCreatedAt(), after.getId(), fetch);
+        }
+        return toPage(rows, size, KeysetCursor::after);
+    }
+
     /**
      * Get tasks assigned to a user in a specific project
      */
@@ -167,7 +479,10 @@ public class TaskService {
      * Get tasks assigned to user with specific status
      */
     public List<Task> getTasksByAssigneeAndStatus(String userId, String status) {
-        return taskRepository.findByAssigneeUserIdAndStatus(userId, status);
+        TaskStatus parsed = TaskStatus.parse(status);
+        return parsed.isOpen()
+                ? taskRepository.findOpenByAssigneeAndStatus(userId, parsed.getCode())
+                : taskRepository.findByAssigneeUserIdAndStatus(userId, parsed);
     }
 
     /**
@@ -197,7 +512,19 @@ public class TaskService {
      * Get count of assigned tasks by status for a user
      */
     public Long getAssignedTaskCountByStatus(String userId, String status) {
-        return taskRepository.countAssignedTasksByStatus(userId, status);
+        TaskStatus parsed = TaskStatus.parse(status);
+        return parsed.isOpen()
+                ? taskRepository.countOpenAssignedTasksByStatus(userId, parsed.getCode())
+                : taskRepository.countAssignedTasksByStatus(userId, parsed);
+    }
+
+    /**
+     * Counts by status, assignee, unassigned and assignee x status for a project,
+     * all from a single aggregation query
+     */
+    @Transactional(readOnly = true)
+    public ProjectTaskStatsResponse getProjectStats(Long projectId) {
+        return ProjectTaskStatsResponse.fromRows(projectId, taskRepository.aggregateProjectStats(projectId));
     }
 
     /**
@@ -215,40 +542,122 @@ public class TaskService {
     }
 
     /**
-     * Bulk assign multiple tasks to a user
+     * Bulk assign multiple tasks to a user.
+     * Set-based: one query resolves every task's project, one query checks the
+     * assignee's membership across those projects, and the writes are a single
+     * DELETE/INSERT/UPDATE per chunk of ids however many tasks are involved.
+     * The requestor must be OWNER or ADMIN of each task's project.
      */
     @Transactional
-    public List<Task> bulkAssignTasks(List<Long> taskIds, AssignTaskRequest request, String assignedBy) {
-        return taskIds.stream()
-                .map(taskId -> {
-                    try {
-                        return assignTask(taskId, request, assignedBy);
-                    } catch (Exception e) {
-                        // Log error but continue with other tasks
-                        System.err.println("Failed to assign task " + taskId + ": " + e.getMessage());
-                        return null;
-                    }
-                })
-                .filter(task -> task != null)
-                .toList();
+    public BulkOperationResponse bulkAssignTasks(List<Long> taskIds, AssignTaskRequest request, String assignedBy) {
+        // Same rule as assignTask: no assignee means unassign
+        if (!request.isValid()) {
+            return bulkUnassignTasks(taskIds, assignedBy);
+        }
+
+        Map<Long, Long> projectByTask = loadProjectIds(taskIds);
+        Set<Long> memberProjects = projectByTask.isEmpty()
+                ? Set.of()
+                : projectMemberRepository.findProjectIdsWithMember(
+                        request.getAssigneeUserId(), new HashSet<>(projectByTask.values()));
+
+        Map<Long, Boolean> canAssign = new HashMap<>();
+        List<BulkTaskResult> results = new ArrayList<>();
+        List<Long> writable = new ArrayList<>();
+        for (Long taskId : new LinkedHashSet<>(taskIds)) {
+            Long projectId = projectByTask.get(taskId);
+            if (projectId == null) {
+                results.add(BulkTaskResult.failed(taskId, "Task not found with id: " + taskId));
+            } else if (!canAssign.computeIfAbsent(projectId, id -> hasAssignPermission(id, assignedBy))) {
+                results.add(BulkTaskResult.failed(taskId, "Permission denied. Only OWNER and ADMIN can assign tasks."));
+            } else if (!memberProjects.contains(projectId)) {
+                results.add(BulkTaskResult.failed(taskId, "User is not a member of this project. Please add them as a member first."));
+            } else {
+                writable.add(taskId);
+                results.add(BulkTaskResult.ok(taskId));
+            }
+        }
+
+        Task.TaskAssignee assignee = new Task.TaskAssignee(
+            request.getAssigneeUserId(),
+            request.getAssigneeName(),
+            request.getAssigneeEmail(),
+            request.getAssigneePhoto()
+        );
+        String assigneesJson = TaskAssigneeJson.write(List.of(assignee));
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : chunks(writable)) {
+            taskRepository.deleteAssigneeRows(chunk);
+            taskRepository.insertSoleAssigneeRows(chunk, assignee.getFirebaseUid(), assignee.getName(),
+                    assignee.getEmail(), assignee.getPhotoUrl());
+            taskRepository.updateAssigneeColumns(chunk, assignee.getFirebaseUid(), assignee.getName(),
+                    assignee.getEmail(), assignee.getPhotoUrl(), assigneesJson, now, assignedBy, now);
+        }
+
+        publishReload(writable, projectByTask);
+        return BulkOperationResponse.of(results);
     }
 
     /**
-     * Bulk unassign multiple tasks
+     * Bulk unassign multiple tasks, set-based like bulkAssignTasks.
+     * The requestor must be OWNER or ADMIN of each task's project.
      */
     @Transactional
-    public List<Task> bulkUnassignTasks(List<Long> taskIds) {
-        return taskIds.stream()
-                .map(taskId -> {
-                    try {
-                        return unassignTask(taskId);
-                    } catch (Exception e) {
-                        System.err.println("Failed to unassign task " + taskId + ": " + e.getMessage());
-                        return null;
-                    }
-                })
-                .filter(task -> task != null)
-                .toList();
+    public BulkOperationResponse bulkUnassignTasks(List<Long> taskIds, String requestorFirebaseUid) {
+        Map<Long, Long> projectByTask = loadProjectIds(taskIds);
+
+        Map<Long, Boolean> canAssign = new HashMap<>();
+        List<BulkTaskResult> results = new ArrayList<>();
+        List<Long> writable = new ArrayList<>();
+        for (Long taskId : new LinkedHashSet<>(taskIds)) {
+            Long projectId = projectByTask.get(taskId);
+            if (projectId == null) {
+                results.add(BulkTaskResult.failed(taskId, "Task not found with id: " + taskId));
+            } else if (!canAssign.computeIfAbsent(projectId, id -> hasAssignPermission(id, requestorFirebaseUid))) {
+                results.add(BulkTaskResult.failed(taskId, "Permission denied. Only OWNER and ADMIN can unassign tasks."));
+            } else {
+                writable.add(taskId);
+                results.add(BulkTaskResult.ok(taskId));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : chunks(writable)) {
+            taskRepository.deleteAssigneeRows(chunk);
+            taskRepository.updateAssigneeColumns(chunk, null, null, null, null, "[]", null, null, now);
+        }
+
+        publishReload(writable, projectByTask);
+        return BulkOperationResponse.of(results);
+    }
+
+    // Set-based writes have no entities to snapshot; boards refetch instead
+    private void publishReload(List<Long> writtenTaskIds, Map<Long, Long> projectByTask) {
+        Set<Long> projectIds = new HashSet<>();
+        for (Long taskId : writtenTaskIds) {
+            projectIds.add(projectByTask.get(taskId));
+        }
+        projectVersions.bumpAll(projectIds);
+        projectIds.forEach(projectId -> eventPublisher.publishEvent(TaskEvent.reload(projectId)));
+    }
+
+    private Map<Long, Long> loadProjectIds(Collection<Long> taskIds) {
+        Map<Long, Long> projectByTask = new HashMap<>();
+        for (List<Long> chunk : chunks(new ArrayList<>(new LinkedHashSet<>(taskIds)))) {
+            for (TaskProjectRef ref : taskRepository.findProjectRefsByIdIn(chunk)) {
+                projectByTask.put(ref.getId(), ref.getProjectId());
+            }
+        }
+        return projectByTask;
+    }
+
+    // Keeps IN lists well below the driver's bind parameter limit
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += BULK_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + BULK_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
     }
 
     /**
@@ -261,7 +670,7 @@ public class TaskService {
         
         // ✅ NEW: If empty list, unassign all
         if (assignees == null || assignees.isEmpty()) {
-            System.out.println("🔄 Unassigning task (empty assignees list)");
+            log.debug("Unassigning task {} (empty assignees list)", taskId);
             return unassignTask(taskId);
         }
         
@@ -294,7 +703,7 @@ public class TaskService {
         task.setAssignedBy(assignedBy);
         task.setUpdatedAt(LocalDateTime.now());
         
-        return taskRepository.save(task);
+        return saveAndPublish(task, TaskEvent.ASSIGNED);
     }  
 
     // ========================================
@@ -306,58 +715,22 @@ public class TaskService {
      * Only OWNER and ADMIN can assign
      */
     public boolean hasAssignPermission(Long projectId, String firebaseUid) {
-        // Find project
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
-        if (projectOpt.isEmpty()) {
-            return false;
-        }
-        Project project = projectOpt.get();
-        
-        // Find all members of the project
-        List<ProjectMember> members = projectMemberRepository.findByProject(project);
-        
-        // Find the specific member with matching firebaseUid
-        Optional<ProjectMember> memberOpt = members.stream()
-            .filter(m -> m.getUser().getFirebaseUid().equals(firebaseUid))
-            .findFirst();
-        
-        if (memberOpt.isEmpty()) {
-            return false;
-        }
-        
-        ProjectMember member = memberOpt.get();
-        ProjectMember.MemberRole role = member.getRole();
+        // Cached role lookup - no member list scan
+        Optional<ProjectMember.MemberRole> role = projectMemberService.findRole(projectId, firebaseUid);
         
         // Only OWNER and ADMIN can assign tasks
-        return role == ProjectMember.MemberRole.OWNER || 
-            role == ProjectMember.MemberRole.ADMIN;
+        return role.isPresent() && (role.get() == ProjectMember.MemberRole.OWNER || 
+            role.get() == ProjectMember.MemberRole.ADMIN);
     }
 
     /**
      * Get user's role in a project
      */
     public String getUserRole(Long projectId, String firebaseUid) {
-        // Find project
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
-        if (projectOpt.isEmpty()) {
-            return "NONE";
-        }
-        Project project = projectOpt.get();
-        
-        // Find all members
-        List<ProjectMember> members = projectMemberRepository.findByProject(project);
-        
-        // Find specific member
-        Optional<ProjectMember> memberOpt = members.stream()
-            .filter(m -> m.getUser().getFirebaseUid().equals(firebaseUid))
-            .findFirst();
-        
-        if (memberOpt.isEmpty()) {
-            return "NONE";
-        }
-        
         // Convert ENUM to String
-        return memberOpt.get().getRole().name();
+        return projectMemberService.findRole(projectId, firebaseUid)
+                .map(Enum::name)
+                .orElse("NONE");
     }
 
         // ========================================
@@ -382,13 +755,13 @@ public class TaskService {
         // Check permissions
         if (userRole.equals("OWNER") || userRole.equals("ADMIN")) {
             // OWNER and ADMIN can delete any task
-            taskRepository.deleteById(taskId);
-            System.out.println("✅ Task deleted by " + userRole);
+            deleteAndPublish(task);
+            log.atInfo().addKeyValue("taskId", taskId).addKeyValue("role", userRole).log("Task deleted");
         } else if (userRole.equals("MEMBER")) {
             // MEMBER can only delete tasks they created
             if (task.getCreatedBy() != null && task.getCreatedBy().equals(firebaseUid)) {
-                taskRepository.deleteById(taskId);
-                System.out.println("✅ Task deleted by MEMBER (own task)");
+                deleteAndPublish(task);
+                log.atInfo().addKeyValue("taskId", taskId).addKeyValue("role", userRole).log("Task deleted (own task)");
             } else {
                 throw new RuntimeException("Permission denied. Members can only delete tasks created by them.");
             }
@@ -423,4 +796,40 @@ public class TaskService {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    // ========================================
+    // CHANGE EVENTS (delivered to board subscribers after commit)
+    // ========================================
+
+    // Flushed first so the card carries the @Version the row will commit with;
+    // boards send it back on the next compare-and-set transition
+    private Task saveAndPublish(Task task, String eventType) {
+        Task saved = taskRepository.saveAndFlush(task);
+        projectVersions.bump(saved.getProject().getId());
+        eventPublisher.publishEvent(TaskEvent.of(eventType, saved));
+        return saved;
+    }
+
+    private void deleteAndPublish(Task task) {
+        Long projectId = task.getProject().getId();
+        taskRepository.delete(task);
+        projectVersions.bump(projectId);
+        eventPublisher.publishEvent(TaskEvent.deleted(projectId, task.getId()));
+    }
+
+    // ========================================
+    // PAGINATION HELPERS
+    // ========================================
+
+    private static int clampPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    // Rows were fetched with one extra to detect a following page
+    private static <T> CursorPageResponse<T> toPage(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(items, nextCursor, hasMore);
+    }
+}
@@ -1,11 +1,15 @@
 package com.nexora.userservice.service;
 
+import com.nexora.userservice.dto.ProjectVersionRow;
 import com.nexora.userservice.entity.User;
+import com.nexora.userservice.repository.ProjectRepository;
 import com.nexora.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -13,17 +17,35 @@ import java.util.Optional;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectVersions projectVersions;
     
+    /**
+     * Member lists and the cached task lists (the embedded project owner) show
+     * the profile, so a change to it bumps every project the user owns or
+     * belongs to; an unchanged sync on login bumps nothing.
+     */
     @Transactional
     public User createOrUpdateUser(String firebaseUid, String email, String displayName, String photoUrl) {
         Optional<User> existingUser = userRepository.findByFirebaseUid(firebaseUid);
         
         if (existingUser.isPresent()) {
             User user = existingUser.get();
+            boolean profileChanged = !Objects.equals(user.getEmail(), email)
+                    || !Objects.equals(user.getDisplayName(), displayName)
+                    || !Objects.equals(user.getPhotoUrl(), photoUrl);
+            if (!profileChanged) {
+                return user;
+            }
             user.setEmail(email);
             user.setDisplayName(displayName);
             user.setPhotoUrl(photoUrl);
-            return userRepository.save(user);
+            User saved = userRepository.save(user);
+            List<Long> projectIds = projectRepository.findUserProjectVersions(firebaseUid).stream()
+                    .map(ProjectVersionRow::getId)
+                    .toList();
+            projectVersions.bumpAll(projectIds);
+            return saved;
         } else {
             User newUser = new User();
             newUser.setFirebaseUid(firebaseUid);
@@ -0,0 +1,76 @@
+package com.nexora.userservice.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.nexora.userservice.service.RateLimiter;
+import com.nexora.userservice.service.RateLimiter.EndpointClass;
+
+class RateLimitFilterTest {
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+    private final RateLimitFilter filter = new RateLimitFilter(rateLimiter);
+
+    @Test
+    void passesAdmittedRequestsOn() throws Exception {
+        when(rateLimiter.tryAcquire(any(), any(), any())).thenReturn(Duration.ZERO);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/project/1"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void roundsRetryAfterUpToWholeSeconds() throws Exception {
+        assertEquals("1", retryAfter(Duration.ofNanos(1)));
+        assertEquals("1", retryAfter(Duration.ofMillis(1000)));
+        assertEquals("2", retryAfter(Duration.ofMillis(1001)));
+        assertEquals("4", retryAfter(Duration.ofMillis(4000)));
+    }
+
+    @Test
+    void keysCallersByTheUidTheyActAs() throws Exception {
+        MockHttpServletRequest byParam = new MockHttpServletRequest("POST", "/api/task/7/assign");
+        byParam.setParameter("requestorFirebaseUid", "owner");
+        assertCaller("uid:owner", EndpointClass.WRITE, byParam);
+
+        assertCaller("uid:me", EndpointClass.READ, new MockHttpServletRequest("GET", "/api/project/user/me"));
+        // Names whose tasks are read, not who reads them
+        assertCaller("ip:127.0.0.1", EndpointClass.READ, new MockHttpServletRequest("GET", "/api/task/assignee/other"));
+        assertCaller("ip:127.0.0.1", EndpointClass.BULK, new MockHttpServletRequest("POST", "/api/task/bulk/create"));
+    }
+
+    private String retryAfter(Duration wait) throws Exception {
+        when(rateLimiter.tryAcquire(any(), any(), any())).thenReturn(wait);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/project/1"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        return response.getHeader("Retry-After");
+    }
+
+    private void assertCaller(String caller, EndpointClass endpointClass, MockHttpServletRequest request)
+            throws Exception {
+        when(rateLimiter.tryAcquire(any(), any(), any())).thenReturn(Duration.ZERO);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        verify(rateLimiter).tryAcquire(caller, "127.0.0.1", endpointClass);
+    }
+}
@@ -0,0 +1,57 @@
+package com.nexora.userservice.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 9, 14, 30, 5, 123_456_000);
+        String token = new KeysetCursor(createdAt, 42L).encode();
+
+        KeysetCursor decoded = KeysetCursor.decode(token);
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+        assertFalse(token.contains("|"), "token is opaque base64url");
+        assertFalse(token.contains("="), "token is unpadded");
+    }
+
+    @Test
+    void startSortsBeforeEveryRealRow() {
+        KeysetCursor start = KeysetCursor.start();
+
+        assertTrue(start.getCreatedAt().isAfter(LocalDateTime.now().plusYears(1000)));
+        assertEquals(Long.MAX_VALUE, start.getId());
+        assertEquals(start.getCreatedAt(), KeysetCursor.decode(start.encode()).getCreatedAt());
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertInvalid("");
+        assertInvalid("not base64 !!");
+        assertInvalid(encode("2025-03-09T14:30:05"));
+        assertInvalid(encode("yesterday|42"));
+        assertInvalid(encode("2025-03-09T14:30:05|forty-two"));
+        assertInvalid(encode("2025-03-09T14:30:05|"));
+        assertInvalid(encode("|42"));
+    }
+
+    private static void assertInvalid(String token) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(token));
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
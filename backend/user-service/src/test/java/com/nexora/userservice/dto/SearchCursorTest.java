@@ -0,0 +1,49 @@
+package com.nexora.userservice.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class SearchCursorTest {
+
+    @Test
+    void roundTripsRankAndId() {
+        SearchCursor decoded = SearchCursor.decode(new SearchCursor(0.0607927f, 913L).encode());
+
+        assertEquals(0.0607927f, decoded.getRank());
+        assertEquals(913L, decoded.getId());
+    }
+
+    @Test
+    void startRoundTrips() {
+        SearchCursor start = SearchCursor.decode(SearchCursor.start().encode());
+
+        assertEquals(Float.MAX_VALUE, start.getRank());
+        assertEquals(Long.MAX_VALUE, start.getId());
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertInvalid("");
+        assertInvalid("%%%");
+        assertInvalid(encode("0.5"));
+        assertInvalid(encode("high|1"));
+        assertInvalid(encode("0.5|1.5"));
+        assertInvalid(encode("NaN|1"));
+        assertInvalid(encode("Infinity|1"));
+        assertInvalid(encode("-Infinity|1"));
+    }
+
+    private static void assertInvalid(String token) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode(token));
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
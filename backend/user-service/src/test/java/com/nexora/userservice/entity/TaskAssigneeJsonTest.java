@@ -0,0 +1,66 @@
+package com.nexora.userservice.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TaskAssigneeJsonTest {
+
+    @Test
+    void roundTripsEscapedValues() {
+        Task.TaskAssignee original = new Task.TaskAssignee(
+                "uid-1", "Ann \"Annie\" O\\Neil\n\t\u0001", "ann@example.com", null);
+
+        List<Task.TaskAssignee> read = TaskAssigneeJson.read(TaskAssigneeJson.write(List.of(original)));
+
+        assertEquals(1, read.size());
+        assertEquals("uid-1", read.get(0).getFirebaseUid());
+        assertEquals(original.getName(), read.get(0).getName());
+        assertEquals("ann@example.com", read.get(0).getEmail());
+        assertNull(read.get(0).getPhotoUrl());
+    }
+
+    @Test
+    void writesLegacyColumnFormat() {
+        String json = TaskAssigneeJson.write(List.of(
+                new Task.TaskAssignee("a", "A", "a@x.io", "https://p/a"),
+                new Task.TaskAssignee("b", null, "b@x.io", null)));
+
+        assertEquals("[{\"firebaseUid\":\"a\",\"name\":\"A\",\"email\":\"a@x.io\",\"photoUrl\":\"https://p/a\"},"
+                + "{\"firebaseUid\":\"b\",\"name\":\"\",\"email\":\"b@x.io\",\"photoUrl\":\"\"}]", json);
+        assertEquals("[]", TaskAssigneeJson.write(List.of()));
+    }
+
+    @Test
+    void readsWhitespaceUnicodeEscapesAndUnknownKeys() {
+        String json = " [ { \"extra\" : {\"n\": [1, \"}\"]}, \"firebaseUid\" : \"u\\u00e9\\/1\" ,"
+                + " \"name\": null, \"photoUrl\": \"\" } , {\"firebaseUid\":\"u2\"} ] ";
+
+        List<Task.TaskAssignee> read = TaskAssigneeJson.read(json);
+
+        assertEquals(2, read.size());
+        assertEquals("u\u00e9/1", read.get(0).getFirebaseUid());
+        assertNull(read.get(0).getName());
+        assertNull(read.get(0).getPhotoUrl());
+        assertEquals("u2", read.get(1).getFirebaseUid());
+    }
+
+    @Test
+    void treatsNullAndEmptyInputAsNoAssignees() {
+        assertTrue(TaskAssigneeJson.read(null).isEmpty());
+        assertTrue(TaskAssigneeJson.read("").isEmpty());
+        assertTrue(TaskAssigneeJson.read("[ ]").isEmpty());
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertThrows(IllegalArgumentException.class, () -> TaskAssigneeJson.read("[{\"firebaseUid\":\"x}]"));
+        assertThrows(IllegalArgumentException.class, () -> TaskAssigneeJson.read("{}"));
+        assertThrows(IllegalArgumentException.class, () -> TaskAssigneeJson.read("[{\"name\":\"\\q\"}]"));
+    }
+}
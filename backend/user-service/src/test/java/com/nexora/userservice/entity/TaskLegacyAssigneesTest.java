@@ -0,0 +1,57 @@
+package com.nexora.userservice.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TaskLegacyAssigneesTest {
+
+    @Test
+    void jsonEntriesWithoutUidFallBackToTheSingleColumn() {
+        Task task = legacyTask("[{\"name\":\"Ann\"},{\"firebaseUid\":\"\",\"email\":\"x@y.io\"}]");
+
+        assertTrue(task.migrateLegacyAssignees());
+
+        assertEquals(1, task.getAssignees().size());
+        assertEquals("uid-1", task.getAssignees().get(0).getFirebaseUid());
+        assertEquals("uid-1", task.getAssigneeUserId());
+        assertEquals("Ann", task.getAssigneeName());
+        assertEquals("ann@example.com", task.getAssigneeEmail());
+    }
+
+    @Test
+    void jsonAssigneesWinOverTheSingleColumn() {
+        Task task = legacyTask("[{\"firebaseUid\":\"uid-2\",\"name\":\"Bob\"},{\"firebaseUid\":\"uid-2\"}]");
+
+        assertTrue(task.migrateLegacyAssignees());
+
+        assertEquals(1, task.getAssignees().size());
+        assertEquals("uid-2", task.getAssigneeUserId());
+        assertEquals("Bob", task.getAssigneeName());
+    }
+
+    @Test
+    void unparseableJsonIsLeftUntouched() {
+        String broken = "[{\"firebaseUid\":\"uid-2\"";
+        Task task = legacyTask(broken);
+
+        assertFalse(task.migrateLegacyAssignees());
+
+        assertTrue(task.getAssignees().isEmpty());
+        assertEquals(broken, task.getAssigneesJson());
+        assertEquals("uid-1", task.getAssigneeUserId());
+        assertEquals("Ann", task.getAssigneeName());
+    }
+
+    private static Task legacyTask(String assigneesJson) {
+        Task task = new Task("Legacy", null, null, "owner");
+        task.setId(1L);
+        task.setAssigneesJson(assigneesJson);
+        task.setAssigneeUserId("uid-1");
+        task.setAssigneeName("Ann");
+        task.setAssigneeEmail("ann@example.com");
+        return task;
+    }
+}
@@ -0,0 +1,68 @@
+package com.nexora.userservice.entity;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class TaskStatusTest {
+
+    @Test
+    void allowsTheDocumentedMoves() {
+        assertEquals(Set.of(TaskStatus.IN_PROGRESS, TaskStatus.DONE), TaskStatus.TODO.allowedTransitions());
+        assertEquals(Set.of(TaskStatus.TODO, TaskStatus.DONE), TaskStatus.IN_PROGRESS.allowedTransitions());
+        assertEquals(Set.of(TaskStatus.IN_PROGRESS), TaskStatus.DONE.allowedTransitions());
+
+        assertDoesNotThrow(() -> TaskStatus.checkTransition(TaskStatus.TODO, TaskStatus.DONE));
+        assertDoesNotThrow(() -> TaskStatus.checkTransition(TaskStatus.DONE, TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void rejectsMovesOutsideTheTable() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> TaskStatus.checkTransition(TaskStatus.DONE, TaskStatus.TODO));
+        assertEquals("Cannot move a task from DONE to TODO; allowed: [IN_PROGRESS]", e.getMessage());
+
+        // Same status is not a move; callers treat it as a no-op before checking
+        for (TaskStatus status : TaskStatus.values()) {
+            assertFalse(status.canTransitionTo(status));
+        }
+    }
+
+    @Test
+    void allowedTransitionsCannotBeModified() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> TaskStatus.DONE.allowedTransitions().add(TaskStatus.TODO));
+    }
+
+    @Test
+    void parsesNamesCaseInsensitively() {
+        assertEquals(TaskStatus.IN_PROGRESS, TaskStatus.parse("in_progress"));
+        assertEquals(TaskStatus.DONE, TaskStatus.parse(" Done "));
+        assertEquals(TaskStatus.TODO, TaskStatus.parse("TODO"));
+    }
+
+    @Test
+    void rejectsNullBlankAndUnknownNames() {
+        for (String value : new String[] {null, "", "   ", "IN PROGRESS", "closed", "1"}) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> TaskStatus.parse(value));
+            assertEquals("status must be one of TODO, IN_PROGRESS, DONE", e.getMessage());
+        }
+    }
+
+    @Test
+    void codesRoundTripAndMatchTheSqlMapping() {
+        for (TaskStatus status : TaskStatus.values()) {
+            assertEquals(status, TaskStatus.fromCode(status.getCode()));
+            assertTrue(TaskStatus.SQL_NAME.contains("WHEN " + status.getCode() + " THEN '" + status.name() + "'"));
+        }
+        assertThrows(IllegalArgumentException.class, () -> TaskStatus.fromCode((short) 9));
+        assertFalse(TaskStatus.DONE.isOpen());
+        assertTrue(TaskStatus.TODO.isOpen() && TaskStatus.IN_PROGRESS.isOpen());
+    }
+}
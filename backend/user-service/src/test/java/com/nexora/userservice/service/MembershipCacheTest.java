@@ -0,0 +1,34 @@
+package com.nexora.userservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexora.userservice.entity.ProjectMember;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MembershipCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MembershipCache cache = new MembershipCache(100, Duration.ofMinutes(5), registry);
+
+    @Test
+    void hitsAndMissesArePublishedAsCacheMeters() {
+        cache.get(7L, "uid-1", (projectId, uid) -> Optional.of(ProjectMember.MemberRole.MEMBER));
+        cache.get(7L, "uid-1", (projectId, uid) -> Optional.empty());
+        cache.get(7L, "uid-2", (projectId, uid) -> Optional.empty());
+
+        assertEquals(1, gets("hit"));
+        assertEquals(2, gets("miss"));
+        assertEquals(2, registry.get("cache.size").tag("cache", "membership").gauge().value());
+    }
+
+    private double gets(String result) {
+        return registry.get("cache.gets").tag("cache", "membership").tag("result", result)
+                .functionCounter().count();
+    }
+}
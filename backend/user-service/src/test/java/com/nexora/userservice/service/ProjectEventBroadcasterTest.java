@@ -0,0 +1,47 @@
+package com.nexora.userservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.nexora.userservice.dto.ProjectAccessEvent;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class ProjectEventBroadcasterTest {
+
+    private final ProjectEventBroadcaster broadcaster = new ProjectEventBroadcaster(JsonMapper.builder().build(),
+            Duration.ofMinutes(1), 16, Duration.ofMinutes(1), 1, new MockEnvironment());
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    void removingAMemberClosesOnlyTheirStreamsOfThatProject() {
+        broadcaster.subscribe(7L, "uid-1");
+        broadcaster.subscribe(7L, "uid-1");
+        broadcaster.subscribe(7L, "uid-2");
+        broadcaster.subscribe(8L, "uid-1");
+
+        broadcaster.onAccessRevoked(ProjectAccessEvent.memberRemoved(7L, "uid-1"));
+
+        assertEquals(2, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void deletingAProjectClosesAllOfItsStreams() {
+        broadcaster.subscribe(7L, "uid-1");
+        broadcaster.subscribe(7L, "uid-2");
+        broadcaster.subscribe(8L, "uid-1");
+
+        broadcaster.onAccessRevoked(ProjectAccessEvent.projectDeleted(7L));
+
+        assertEquals(1, broadcaster.subscriberCount());
+    }
+}
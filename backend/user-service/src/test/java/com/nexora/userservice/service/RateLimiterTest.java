@@ -0,0 +1,126 @@
+package com.nexora.userservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexora.userservice.service.RateLimiter.EndpointClass;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterTest {
+
+    // Reads 10/s with a burst of 3, writes 2/s with a burst of 1, bulk one per 4s;
+    // ten times that per client address
+    private static final String ADDRESS = "203.0.113.7";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(Duration.ofHours(1).toNanos());
+    private final RateLimiter limiter = new RateLimiter(10, 3, 2, 1, 0.25, 1, 10, 1000, registry, clock::get);
+
+    @Test
+    void admitsABurstThenWaitsOneInterval() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, limiter.tryAcquire("a", ADDRESS, EndpointClass.READ));
+        }
+        assertEquals(Duration.ofMillis(100), limiter.tryAcquire("a", ADDRESS, EndpointClass.READ));
+        assertEquals(Duration.ofMillis(4000), waitAfterOne("a", EndpointClass.BULK));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        drain("a", EndpointClass.READ);
+
+        advance(Duration.ofMillis(99));
+        assertEquals(Duration.ofMillis(1), limiter.tryAcquire("a", ADDRESS, EndpointClass.READ));
+        advance(Duration.ofMillis(1));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("a", ADDRESS, EndpointClass.READ));
+        assertEquals(Duration.ofMillis(100), limiter.tryAcquire("a", ADDRESS, EndpointClass.READ));
+
+        // Rejected requests take nothing: the wait only shrinks with time
+        advance(Duration.ofMillis(60));
+        assertEquals(Duration.ofMillis(40), limiter.tryAcquire("a", ADDRESS, EndpointClass.READ));
+    }
+
+    @Test
+    void idleBucketsRefillOnlyUpToTheBurst() {
+        drain("a", EndpointClass.READ);
+
+        advance(Duration.ofMinutes(5));
+        assertEquals(3, drain("a", EndpointClass.READ));
+    }
+
+    @Test
+    void keepsCallersAndEndpointClassesApart() {
+        drain("a", EndpointClass.READ);
+
+        assertEquals(3, drain("b", EndpointClass.READ));
+        assertEquals(Duration.ofMillis(500), waitAfterOne("a", EndpointClass.WRITE));
+        assertEquals(Duration.ofMillis(500), waitAfterOne("b", EndpointClass.WRITE));
+    }
+
+    @Test
+    void capsAnAddressThatRotatesCallers() {
+        int admitted = 0;
+        for (int i = 0; i < 40; i++) {
+            if (limiter.tryAcquire("uid:" + i, ADDRESS, EndpointClass.READ).isZero()) {
+                admitted++;
+            }
+        }
+
+        assertEquals(30, admitted);
+        assertEquals(10, requests("read", "address_rejected"));
+        // Rejected at the address: no caller buckets for the last ten
+        assertEquals(31, registry.get("rate_limit.callers").gauge().value());
+        assertEquals(Duration.ZERO, limiter.tryAcquire("uid:0", "198.51.100.1", EndpointClass.READ));
+    }
+
+    @Test
+    void countsAdmittedAndRejectedPerClass() {
+        drain("a", EndpointClass.READ);
+        waitAfterOne("a", EndpointClass.WRITE);
+
+        // Two callers and the address they share, per class
+        assertEquals(4, registry.get("rate_limit.callers").gauge().value());
+        assertEquals(3, requests("read", "admitted"));
+        assertEquals(1, requests("read", "rejected"));
+        assertEquals(1, requests("write", "admitted"));
+        assertEquals(1, requests("write", "rejected"));
+        assertEquals(0, requests("bulk", "admitted"));
+        assertEquals(0, requests("bulk", "rejected"));
+    }
+
+    @Test
+    void rejectsBudgetsThatAdmitNothing() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, 3, 2, 1, 1, 1, 10, 1000, registry, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(10, 3, 2, 0, 1, 1, 10, 1000, registry, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(10, 3, 2, 1, 1, 1, 0, 1000, registry, clock::get));
+    }
+
+    private double requests(String endpointClass, String outcome) {
+        return registry.get("rate_limit.requests").tag("class", endpointClass).tag("outcome", outcome)
+                .counter().count();
+    }
+
+    // Admitted count until the first rejection
+    private int drain(String caller, EndpointClass endpointClass) {
+        int admitted = 0;
+        while (limiter.tryAcquire(caller, ADDRESS, endpointClass).isZero()) {
+            admitted++;
+        }
+        return admitted;
+    }
+
+    private Duration waitAfterOne(String caller, EndpointClass endpointClass) {
+        assertEquals(Duration.ZERO, limiter.tryAcquire(caller, ADDRESS, endpointClass));
+        return limiter.tryAcquire(caller, ADDRESS, endpointClass);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
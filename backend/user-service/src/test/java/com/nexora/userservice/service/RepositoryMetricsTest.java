@@ -0,0 +1,88 @@
+package com.nexora.userservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexora.userservice.repository.TaskRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RepositoryMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RepositoryMetrics metrics = new RepositoryMetrics(registry);
+
+    @Test
+    void callIsTimedAndItsRowsAndStatementsRecorded() throws Exception {
+        RepositoryMetrics.MethodStats stats = metrics.register(TaskRepository.class,
+                TaskRepository.class.getMethod("findCardsByIdIn", Collection.class));
+
+        stats.record(2_000_000, 2, List.of("a", "b", "c"), null);
+        stats.record(4_000_000, 1, Optional.empty(), null);
+
+        Timer timer = registry.get(RepositoryMetrics.INVOCATIONS)
+                .tags("repository", "TaskRepository", "method", "findCardsByIdIn", "outcome", "success")
+                .timer();
+        assertEquals(2, timer.count());
+        assertEquals(6, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(4, timer.takeSnapshot().percentileValues().length);
+
+        DistributionSummary rows = summary(RepositoryMetrics.ROWS, "findCardsByIdIn");
+        assertEquals(3, rows.totalAmount(), 0.001);
+        assertEquals(3, rows.max(), 0.001);
+        assertEquals(3, summary(RepositoryMetrics.STATEMENTS_PER_CALL, "findCardsByIdIn").totalAmount(), 0.001);
+    }
+
+    @Test
+    void failedCallIsTimedUnderTheErrorOutcome() throws Exception {
+        RepositoryMetrics.MethodStats stats = metrics.register(TaskRepository.class,
+                TaskRepository.class.getMethod("findById", Object.class));
+
+        stats.record(1_000_000, 1, null, new IllegalStateException("boom"));
+
+        assertEquals(1, registry.get(RepositoryMetrics.INVOCATIONS)
+                .tags("method", "findById", "outcome", "error").timer().count());
+        assertEquals(0, registry.get(RepositoryMetrics.INVOCATIONS)
+                .tags("method", "findById", "outcome", "success").timer().count());
+        assertEquals(0, summary(RepositoryMetrics.ROWS, "findById").count());
+    }
+
+    @Test
+    void streamRowsAreRecordedWhenTheStreamCloses() throws Exception {
+        RepositoryMetrics.MethodStats stats = metrics.register(TaskRepository.class,
+                TaskRepository.class.getMethod("streamByProjectId", Long.class));
+
+        Object wrapped = stats.record(1_000_000, 1, Stream.of(1, 2, 3, 4), null);
+        try (Stream<?> stream = (Stream<?>) wrapped) {
+            assertEquals(4, stream.toList().size());
+            assertEquals(0, summary(RepositoryMetrics.ROWS, "streamByProjectId").count());
+        }
+
+        DistributionSummary rows = summary(RepositoryMetrics.ROWS, "streamByProjectId");
+        assertEquals(1, rows.count());
+        assertEquals(4, rows.totalAmount(), 0.001);
+    }
+
+    @Test
+    void modifyingQueriesRecordRowsChanged() throws Exception {
+        RepositoryMetrics.MethodStats stats = metrics.register(TaskRepository.class,
+                TaskRepository.class.getMethod("deleteAssigneeRows", Collection.class));
+
+        stats.record(1_000_000, 1, 17, null);
+
+        assertEquals(17, summary(RepositoryMetrics.ROWS, "deleteAssigneeRows").totalAmount(), 0.001);
+    }
+
+    private DistributionSummary summary(String name, String method) {
+        return registry.get(name).tags("repository", "TaskRepository", "method", method).summary();
+    }
+}
@@ -0,0 +1,97 @@
+package com.nexora.userservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexora.userservice.dto.TaskAssigneeRow;
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.TaskStatus;
+import com.nexora.userservice.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.databind.json.JsonMapper;
+
+class TaskExportServiceTest {
+
+    private static final LocalDateTime NEWEST = LocalDateTime.of(2025, 1, 31, 12, 0);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskExportService exportService =
+            new TaskExportService(taskRepository, mock(EntityManager.class), JsonMapper.builder().build());
+
+    @Test
+    void assigneeRowsJoinTheirTasksInCursorOrder() throws IOException {
+        Task first = task(3, NEWEST);
+        Task second = task(2, NEWEST.minusMinutes(1));
+        Task third = task(1, NEWEST.minusMinutes(2));
+        stream(List.of(first, second, third), List.of(
+                row(first, "uid-a"), row(first, "uid-b"),
+                row(third, "uid-c")));
+
+        assertEquals(List.of("3:uid-a;uid-b", "2:", "1:uid-c"), exportAssignees());
+    }
+
+    @Test
+    void rowsOfATaskMissingFromTheTaskCursorAreDropped() throws IOException {
+        Task first = task(3, NEWEST.minusMinutes(1));
+        Task second = task(2, NEWEST.minusMinutes(2));
+        // Task 9 sorts first but is not in the task cursor; task 4 shares
+        // second's createdAt and sorts before it by id
+        Task orphan = task(9, NEWEST);
+        Task tiedOrphan = task(4, NEWEST.minusMinutes(2));
+        stream(List.of(first, second), List.of(
+                row(orphan, "uid-x"),
+                row(first, "uid-a"),
+                row(tiedOrphan, "uid-y"),
+                row(second, "uid-b")));
+
+        assertEquals(List.of("3:uid-a", "2:uid-b"), exportAssignees());
+    }
+
+    @Test
+    void trailingOrphanRowsDoNotReachTheFile() throws IOException {
+        Task only = task(5, NEWEST);
+        stream(List.of(only), List.of(row(only, "uid-a"), row(task(1, NEWEST.minusDays(1)), "uid-z")));
+
+        assertEquals(List.of("5:uid-a"), exportAssignees());
+    }
+
+    private void stream(List<Task> tasks, List<TaskAssigneeRow> rows) {
+        when(taskRepository.streamByProjectId(7L)).thenReturn(tasks.stream());
+        when(taskRepository.streamAssigneeRowsByProjectId(7L)).thenReturn(rows.stream());
+    }
+
+    // "id:uid;uid" per CSV data line
+    private List<String> exportAssignees() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportTasks(7L, TaskFileFormat.CSV, out);
+        return out.toString(StandardCharsets.UTF_8).lines()
+                .skip(1)
+                .map(line -> {
+                    String[] fields = line.split(",", -1);
+                    return fields[0] + ":" + fields[fields.length - 1];
+                })
+                .toList();
+    }
+
+    private static Task task(long id, LocalDateTime createdAt) {
+        Task task = new Task("Task " + id, null, null, "owner");
+        task.setId(id);
+        task.setStatus(TaskStatus.TODO);
+        task.setCreatedAt(createdAt);
+        return task;
+    }
+
+    private static TaskAssigneeRow row(Task task, String firebaseUid) {
+        return new TaskAssigneeRow(task.getId(), task.getCreatedAt(), firebaseUid, null, null, null);
+    }
+}
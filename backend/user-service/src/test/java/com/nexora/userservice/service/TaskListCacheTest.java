@@ -0,0 +1,27 @@
+package com.nexora.userservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskListCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TaskListCache cache = new TaskListCache(DataSize.ofMegabytes(1), Duration.ofMinutes(10), registry);
+
+    @Test
+    void heldBytesAndLookupsArePublishedAsCacheMeters() {
+        TaskListCache.Entry entry = new TaskListCache.Entry("W/\"tasks-7-1\"", new byte[904]);
+        cache.get(7L, TaskListCache.View.ALL, TaskListCache.Format.JSON, () -> entry);
+        cache.get(7L, TaskListCache.View.ALL, TaskListCache.Format.JSON, () -> entry);
+
+        assertEquals(1000, registry.get("cache.weight").tag("cache", "task-lists").gauge().value());
+        assertEquals(1, registry.get("cache.gets").tag("cache", "task-lists").tag("result", "hit")
+                .functionCounter().count());
+    }
+}
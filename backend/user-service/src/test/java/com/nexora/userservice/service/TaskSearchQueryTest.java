@@ -0,0 +1,105 @@
+package com.nexora.userservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexora.userservice.dto.CursorPageResponse;
+import com.nexora.userservice.dto.SearchCursor;
+import com.nexora.userservice.dto.TaskSearchHit;
+import com.nexora.userservice.repository.TaskRepository;
+
+class TaskSearchQueryTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskService taskService = new TaskService(taskRepository, null, null, null, null, null, null);
+
+    @Test
+    void everyWordBecomesALowerCasePrefixTerm() {
+        assertEquals("deploy:* & fail:*", TaskService.toPrefixQuery("Deploy FAIL!"));
+        assertEquals("über:* & 2fa:*", TaskService.toPrefixQuery("  Über\t2FA  "));
+    }
+
+    @Test
+    void tsqueryOperatorsAreStripped() {
+        assertEquals("a:* & b:* & c:* & d:*", TaskService.toPrefixQuery("a & !b | (c <-> d)"));
+        assertEquals("x:* & a:* & y:*", TaskService.toPrefixQuery("x:*A y'\\"));
+        assertNull(TaskService.toPrefixQuery("&|!():*<->'\""));
+        assertNull(TaskService.toPrefixQuery("   "));
+        assertNull(TaskService.toPrefixQuery(null));
+    }
+
+    @Test
+    void termCountIsCapped() {
+        String query = TaskService.toPrefixQuery("a b c d e f g h i j k");
+
+        assertEquals(8, query.split(" & ").length);
+        assertTrue(query.endsWith("h:*"));
+    }
+
+    @Test
+    void textWithoutWordsFailsBeforeQuerying() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("uid", "!!!", null, null, 20));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void extraHitMeansAnotherPageAfterTheLastHit() {
+        List<TaskSearchHit> hits = hits(3);
+        when(taskRepository.searchTasks(anyString(), anyString(), isNull(), anyFloat(), anyLong(), anyInt()))
+                .thenReturn(hits);
+
+        CursorPageResponse<TaskSearchHit> page = taskService.searchTasks("uid", "deploy", null, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        SearchCursor next = SearchCursor.decode(page.getNextCursor());
+        assertEquals(2L, next.getId());
+        assertEquals(0.8f, next.getRank());
+        verify(taskRepository).searchTasks("deploy:*", "uid", null, Float.MAX_VALUE, Long.MAX_VALUE, 3);
+    }
+
+    @Test
+    void cursorContinuesAfterItsHit() {
+        List<TaskSearchHit> hits = hits(2);
+        when(taskRepository.searchTasks(anyString(), anyString(), isNull(), anyFloat(), anyLong(), anyInt()))
+                .thenReturn(hits);
+
+        CursorPageResponse<TaskSearchHit> page = taskService.searchTasks(
+                "uid", "deploy", null, new SearchCursor(0.5f, 40L).encode(), 2);
+
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        verify(taskRepository).searchTasks("deploy:*", "uid", null, 0.5f, 40L, 3);
+    }
+
+    private static final float[] RANKS = {0.9f, 0.8f, 0.7f};
+
+    // Ranked best first: ids 1..count
+    private static List<TaskSearchHit> hits(int count) {
+        List<TaskSearchHit> hits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TaskSearchHit hit = mock(TaskSearchHit.class);
+            when(hit.getId()).thenReturn(i + 1L);
+            when(hit.getRank()).thenReturn(RANKS[i]);
+            hits.add(hit);
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,124 @@
+package com.nexora.userservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.nexora.userservice.dto.TaskEvent;
+import com.nexora.userservice.dto.TaskStatusRow;
+import com.nexora.userservice.entity.Project;
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.entity.TaskStatus;
+import com.nexora.userservice.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+class TaskServiceEventTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ProjectVersions projectVersions = mock(ProjectVersions.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    @SuppressWarnings("unchecked")
+    private final NativeQuery<Object[]> transition = mock(NativeQuery.class, RETURNS_SELF);
+    private final TaskService taskService = new TaskService(
+            taskRepository, null, null, null, entityManager, eventPublisher, projectVersions);
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setId(7L);
+        task = new Task("Write docs", null, project, "owner");
+        task.setId(42L);
+        task.setStatus(TaskStatus.TODO);
+        task.setVersion(3L);
+        task.setCreatedAt(LocalDateTime.of(2025, 1, 31, 12, 0));
+        when(taskRepository.findById(42L)).thenReturn(Optional.of(task));
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(TaskRepository.TRANSITION_STATUS)).thenReturn(query);
+        when(query.unwrap(NativeQuery.class)).thenReturn(transition);
+        when(entityManager.getReference(Task.class, 42L)).thenReturn(task);
+        // What Hibernate does on flush: the @Version increment lands on the entity
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(invocation -> {
+            Task saved = invocation.getArgument(0);
+            saved.setVersion(saved.getVersion() + 1);
+            return saved;
+        });
+    }
+
+    @Test
+    void statusUpdateEventCarriesTheFlushedVersion() {
+        Task saved = taskService.updateTaskStatus(42L, "IN_PROGRESS");
+
+        TaskEvent event = publishedEvent();
+        assertEquals(TaskEvent.UPDATED, event.getType());
+        assertEquals(4L, saved.getVersion());
+        assertEquals(saved.getVersion(), event.getTask().getVersion());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(projectVersions).bump(7L);
+    }
+
+    @Test
+    void unassignEventCarriesTheFlushedVersion() {
+        Task saved = taskService.unassignTask(42L);
+
+        TaskEvent event = publishedEvent();
+        assertEquals(TaskEvent.ASSIGNED, event.getType());
+        assertEquals(saved.getVersion(), event.getTask().getVersion());
+        assertEquals(42L, event.getTaskId());
+        assertEquals(7L, event.getProjectId());
+    }
+
+    @Test
+    void appliedTransitionPublishesTheReturnedRowAndEvictsTheManagedTask() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 2, 1, 9, 30);
+        when(transition.getResultList())
+                .thenReturn(List.<Object[]>of(new Object[] {42L, 7L, "IN_PROGRESS", 4L, updatedAt}));
+
+        Optional<TaskStatusRow> changed = taskService.transitionStatus(42L, "TODO", "IN_PROGRESS", 3L, "uid-1");
+
+        assertEquals(Optional.of(new TaskStatusRow(42L, 7L, "IN_PROGRESS", 4L, updatedAt)), changed);
+        verify(transition).setParameter("fromStatus", TaskStatus.TODO.getCode());
+        verify(transition).setParameter("toStatus", TaskStatus.IN_PROGRESS.getCode());
+        verify(transition).setParameter("version", 3L);
+        verify(entityManager).detach(task);
+        TaskEvent event = publishedEvent();
+        assertEquals(TaskEvent.STATUS, event.getType());
+        assertEquals(4L, event.getTask().getVersion());
+        verify(projectVersions).bumped(7L);
+    }
+
+    @Test
+    void rejectedTransitionPublishesNothing() {
+        when(transition.getResultList()).thenReturn(List.of());
+
+        assertTrue(taskService.transitionStatus(42L, "TODO", "IN_PROGRESS", 2L, "uid-1").isEmpty());
+        verify(entityManager, never()).detach(any());
+        verifyNoInteractions(eventPublisher, projectVersions);
+    }
+
+    private TaskEvent publishedEvent() {
+        ArgumentCaptor<TaskEvent> captor = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
+}
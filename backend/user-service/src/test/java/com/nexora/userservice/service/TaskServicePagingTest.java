@@ -0,0 +1,101 @@
+package com.nexora.userservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.nexora.userservice.dto.CursorPageResponse;
+import com.nexora.userservice.dto.KeysetCursor;
+import com.nexora.userservice.entity.Task;
+import com.nexora.userservice.repository.TaskRepository;
+
+class TaskServicePagingTest {
+
+    private static final LocalDateTime NEWEST = LocalDateTime.of(2025, 1, 31, 12, 0);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskService taskService = new TaskService(taskRepository, null, null, null, null, null, null);
+
+    @Test
+    void extraRowMeansAnotherPageAfterTheLastItem() {
+        when(taskRepository.findProjectTasksFirstPage(eq(7L), any(Pageable.class))).thenReturn(tasks(11));
+
+        CursorPageResponse<Task> page = taskService.getProjectTasksPage(7L, null, 10);
+
+        assertEquals(10, page.getItems().size());
+        assertTrue(page.isHasMore());
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(10L, next.getId());
+        assertEquals(NEWEST.minusMinutes(9), next.getCreatedAt());
+        verify(taskRepository).findProjectTasksFirstPage(7L, PageRequest.of(0, 11));
+    }
+
+    @Test
+    void exactlyFullPageIsTheLastPage() {
+        when(taskRepository.findProjectTasksFirstPage(eq(7L), any(Pageable.class))).thenReturn(tasks(10));
+
+        CursorPageResponse<Task> page = taskService.getProjectTasksPage(7L, "", 10);
+
+        assertEquals(10, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void cursorContinuesStrictlyAfterItsRow() {
+        String cursor = new KeysetCursor(NEWEST, 5L).encode();
+        when(taskRepository.findAssignedTasksAfter(eq("uid-1"), eq(NEWEST), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        CursorPageResponse<Task> page = taskService.getTasksByAssigneePage("uid-1", cursor, 50);
+
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.isHasMore());
+        verify(taskRepository).findAssignedTasksAfter("uid-1", NEWEST, 5L, PageRequest.of(0, 51));
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        when(taskRepository.findProjectTasksFirstPage(eq(7L), any(Pageable.class))).thenReturn(List.of());
+
+        taskService.getProjectTasksPage(7L, null, 0);
+        taskService.getProjectTasksPage(7L, null, 10_000);
+
+        verify(taskRepository).findProjectTasksFirstPage(7L, PageRequest.of(0, 2));
+        verify(taskRepository).findProjectTasksFirstPage(7L, PageRequest.of(0, TaskService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void invalidCursorFailsBeforeQuerying() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getProjectTasksPage(7L, "garbage!", 10));
+        verifyNoInteractions(taskRepository);
+    }
+
+    // Newest first, ids 1..count, a minute apart
+    private static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task("Task " + (i + 1), null, null, "owner");
+            task.setId(i + 1L);
+            task.setCreatedAt(NEWEST.minusMinutes(i));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
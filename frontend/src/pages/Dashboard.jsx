@@ -3,7 +3,7 @@ import { useNavigate } from "react-router-dom";
 import { signOut } from "firebase/auth";
 import { auth } from "../auth/firebase";
 import { useAuth } from "../auth/useAuth";
-import { getUserProjects, createProject, deleteProject, getMyTasks, updateTaskStatus } from "../services/api";
+import { getUserProjects, createProject, deleteProject, getMyTasks, transitionTaskStatus, STATUS_TRANSITIONS } from "../services/api";
 
 export default function Dashboard() {
   const { user } = useAuth();
@@ -70,12 +70,13 @@ export default function Dashboard() {
     }
   };
 
-  const handleTaskStatusChange = async (taskId, newStatus) => {
+  const handleTaskStatusChange = async (task, newStatus) => {
     try {
-      await updateTaskStatus(taskId, newStatus, user.uid);
+      await transitionTaskStatus(task, newStatus, user.uid);
       loadMyTasks();
     } catch (error) {
       console.error("Failed to update task status:", error);
+      loadMyTasks();
     }
   };
 
@@ -324,12 +325,18 @@ export default function Dashboard() {
                       </button>
                       <select
                         value={task.status}
-                        onChange={(e) => handleTaskStatusChange(task.id, e.target.value)}
+                        onChange={(e) => handleTaskStatusChange(task, e.target.value)}
                         className="text-xs border border-gray-200 rounded-lg px-2 py-1 focus:outline-none focus:ring-2 focus:ring-blue-500"
                       >
-                        <option value="TODO">To Do</option>
-                        <option value="IN_PROGRESS">In Progress</option>
-                        <option value="DONE">Done</option>
+                        {[["TODO", "To Do"], ["IN_PROGRESS", "In Progress"], ["DONE", "Done"]].map(([value, label]) => (
+                          <option
+                            key={value}
+                            value={value}
+                            disabled={value !== task.status && !STATUS_TRANSITIONS[task.status]?.includes(value)}
+                          >
+                            {label}
+                          </option>
+                        ))}
                       </select>
                     </div>
                   </div>
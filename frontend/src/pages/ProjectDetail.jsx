@@ -9,15 +9,22 @@ import {
   getProject, 
   getProjectTasks, 
   createTask, 
-  updateTaskStatus, 
+  transitionTaskStatus, 
   deleteTask,
   getProjectMembers,
   addProjectMember,
   removeProjectMember,
   assignTask,
-  assignMultipleTasks  // ← ADDED
+  assignMultipleTasks,  // ← ADDED
+  subscribeToProjectEvents
 } from "../services/api";
 
+// Applies a status change (status, version, updatedAt) to a task, unless it is older
+const mergeStatus = (task, change) =>
+  change.version >= (task.version ?? -1)
+    ? { ...task, status: change.status, version: change.version, updatedAt: change.updatedAt ?? task.updatedAt }
+    : task;
+
 export default function ProjectDetail() {
   const { id } = useParams();
   const { user } = useAuth();
@@ -39,6 +46,32 @@ export default function ProjectDetail() {
     loadProjectData();
   }, [id]);
 
+  // Apply task changes pushed by the server instead of refetching the board
+  useEffect(() => {
+    const applyEvent = (event) => {
+      if (event.type === "reload") {
+        getProjectTasks(id, user.uid)
+          .then(setTasks)
+          .catch((error) => console.error("Failed to reload tasks:", error));
+        return;
+      }
+      setTasks((current) => {
+        if (event.type === "deleted") {
+          return current.filter((task) => task.id !== event.taskId);
+        }
+        if (event.type === "status") {
+          return current.map((task) => (task.id === event.task.id ? mergeStatus(task, event.task) : task));
+        }
+        if (!current.some((task) => task.id === event.task.id)) {
+          return [event.task, ...current];
+        }
+        return current.map((task) => (task.id === event.task.id ? event.task : task));
+      });
+    };
+
+    return subscribeToProjectEvents(id, user.uid, applyEvent);
+  }, [id, user.uid]);
+
   const loadProjectData = async () => {
     try {
       const [projectData, tasksData, membersData] = await Promise.all([
@@ -78,7 +111,6 @@ export default function ProjectDetail() {
       setNewTask({ title: "", description: "" });
       setNewTaskAssignees([]);
       setShowCreateModal(false);
-      loadProjectData();
     } catch (error) {
       console.error("Failed to create task:", error);
       alert("Failed to create task: " + (error.message || "Unknown error"));
@@ -96,7 +128,6 @@ export default function ProjectDetail() {
       const assigneeEmail = member?.userEmail;
       
       await assignTask(taskId, assigneeUid, user.uid, assigneeName, assigneeEmail);
-      loadProjectData();
     } catch (error) {
       console.error("Failed to assign task:", error);
       alert("Failed to assign task: " + error.message);
@@ -117,8 +148,6 @@ export default function ProjectDetail() {
         // Assign multiple
         await assignMultipleTasks(taskId, selectedMembers, user.uid);
       }
-      
-      loadProjectData();
     } catch (error) {
       console.error("Failed to assign members:", error);
       alert("Failed to assign members: " + error.message);
@@ -153,10 +182,16 @@ export default function ProjectDetail() {
   };
 
   const handleStatusChange = async (taskId, newStatus) => {
+    const task = tasks.find((t) => t.id === taskId);
+    if (!task) return;
     try {
-      await updateTaskStatus(taskId, newStatus, user.uid);
-      loadProjectData();
+      const changed = await transitionTaskStatus(task, newStatus, user.uid);
+      setTasks((current) => current.map((t) => (t.id === taskId ? mergeStatus(t, changed) : t)));
     } catch (error) {
+      if (error.current) {
+        // Someone moved it first: show where it really is
+        setTasks((current) => current.map((t) => (t.id === taskId ? mergeStatus(t, error.current) : t)));
+      }
       console.error("Failed to update task status:", error);
     }
   };
@@ -165,7 +200,6 @@ export default function ProjectDetail() {
     if (window.confirm("Delete this task?")) {
       try {
         await deleteTask(taskId, user.uid);
-        loadProjectData();
       } catch (error) {
         console.error("Failed to delete task:", error);
       }
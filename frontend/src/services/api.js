@@ -107,6 +107,45 @@ export const getProjectTasks = async (projectId, firebaseUid) => {
   return response.json();
 };
 
+// Ranked full-text search across the user's projects (or one of them).
+// Pass the previous page's nextCursor to continue.
+export const searchTasks = async (query, firebaseUid, { projectId = null, cursor = null, limit = 20 } = {}) => {
+  const params = new URLSearchParams({ q: query, firebaseUid, limit });
+  if (projectId) params.set('projectId', projectId);
+  if (cursor) params.set('cursor', cursor);
+
+  const response = await fetch(`${API_BASE_URL}/task/search?${params}`);
+
+  if (!response.ok) {
+    throw new Error('Failed to search tasks');
+  }
+
+  return response.json();
+};
+
+// Live board updates over Server-Sent Events. Returns a function that closes the stream.
+export const subscribeToProjectEvents = (projectId, firebaseUid, onEvent) => {
+  const source = new EventSource(`${API_BASE_URL}/task/project/${projectId}/events?firebaseUid=${firebaseUid}`);
+  let disconnected = false;
+
+  ['created', 'updated', 'assigned', 'status', 'deleted', 'reload'].forEach((type) => {
+    source.addEventListener(type, (e) => onEvent(JSON.parse(e.data)));
+  });
+
+  // Events sent while reconnecting are lost, so refetch once the stream is back
+  source.onerror = () => {
+    disconnected = true;
+  };
+  source.onopen = () => {
+    if (disconnected) {
+      disconnected = false;
+      onEvent({ type: 'reload', projectId: Number(projectId) });
+    }
+  };
+
+  return () => source.close();
+};
+
 export const updateTaskStatus = async (taskId, status, firebaseUid) => {
   const response = await fetch(`${API_BASE_URL}/task/${taskId}/status?status=${status}&firebaseUid=${firebaseUid}`, {
     method: 'PATCH',
@@ -119,6 +158,37 @@ export const updateTaskStatus = async (taskId, status, firebaseUid) => {
   return response.json();
 };
 
+// Moves the backend accepts (TaskStatus on the server); anything else is a 400
+export const STATUS_TRANSITIONS = {
+  TODO: ['IN_PROGRESS', 'DONE'],
+  IN_PROGRESS: ['TODO', 'DONE'],
+  DONE: ['IN_PROGRESS'],
+};
+
+// Compare-and-set status change: applied only if the task still has the status
+// and version the client saw. On 409 the error carries the current ones.
+export const transitionTaskStatus = async (task, toStatus, firebaseUid) => {
+  const response = await fetch(`${API_BASE_URL}/task/${task.id}/transition?firebaseUid=${firebaseUid}`, {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json',
+    },
+    body: JSON.stringify({ fromStatus: task.status, toStatus, version: task.version }),
+  });
+
+  if (response.status === 409) {
+    const error = new Error('Task was changed by someone else');
+    error.current = await response.json();
+    throw error;
+  }
+
+  if (!response.ok) {
+    throw new Error('Failed to update task status');
+  }
+
+  return response.json();
+};
+
 export const deleteTask = async (taskId, firebaseUid) => {
   const response = await fetch(`${API_BASE_URL}/task/${taskId}?firebaseUid=${firebaseUid}`, {
     method: 'DELETE',